@@ -0,0 +1,137 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : JobExecutorDispatchBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobExecutor 반출 방식(POLLING / BLOCKING / VIRTUAL_THREAD)별 지연 및 유휴 CPU 벤치마크
+ * - enqueueToRun : addJob 호출부터 runnable 실행까지의 지연 (SampleTime)
+ * - idleCpu      : 빈 큐 상태의 executor 들이 100ms 동안 소비한 프로세스 CPU 시간 (cpuMicros 보조 카운터)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+public class JobExecutorDispatchBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LatencyState {
+
+        @Param({"POLLING", "BLOCKING", "VIRTUAL_THREAD"})
+        public DISPATCH_MODE_TYPE dispatchMode;
+
+        public final AtomicLong completed = new AtomicLong(0);
+        public JobExecutor jobExecutor;
+        public Job job;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            jobExecutor = new JobExecutor("BENCH", 0, 16, dispatchMode);
+            job = new JobBuilder()
+                    .setName("latency")
+                    .setIsLasted(true)
+                    .build();
+            job.setRunnable(completed::incrementAndGet);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jobExecutor.stop();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IdleState {
+
+        @Param({"POLLING", "BLOCKING"})
+        public DISPATCH_MODE_TYPE dispatchMode;
+
+        // ScheduleUnit 기본 executor 수 x (HaHandler + JobMonitoringService)
+        @Param({"10"})
+        public int executorCount;
+
+        public JobExecutor[] jobExecutors;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            jobExecutors = new JobExecutor[executorCount];
+            for (int i = 0; i < executorCount; i++) {
+                jobExecutors[i] = new JobExecutor("BENCH_IDLE", i, 16, dispatchMode);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            for (JobExecutor jobExecutor : jobExecutors) {
+                jobExecutor.stop();
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CpuCounter {
+
+        public long cpuMicros;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cpuMicros = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long enqueueToRun(LatencyState state) {
+        long expected = state.completed.get() + 1;
+        state.jobExecutor.addJob(state.job);
+        while (state.completed.get() < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public void idleCpu(IdleState state, CpuCounter counter) throws InterruptedException {
+        long before = getProcessCpuNanos();
+        Thread.sleep(100);
+        counter.cpuMicros += (getProcessCpuNanos() - before) / 1000;
+    }
+
+    private static long getProcessCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.OVERRUN_POLICY_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : JobFootprintBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업(Job) 하나가 차지하는 힙 크기 벤치마크
+ * - compactJob : 현재 Job (카운터/플래그를 원시 필드에 두고 VarHandle 로 접근)
+ * - legacyJob  : 이전 Job 필드 구성 (카운터/플래그마다 Atomic 객체를 따로 생성)
+ * - gc 프로파일러와 함께 실행하여 gc.alloc.rate.norm(호출당 할당 byte) 차이로 작업당 절감량 확인
+ * ./gradlew jmh -PjmhIncludes=JobFootprintBenchmark -PjmhProfilers=gc
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobFootprintBenchmark {
+
+    // 이름 문자열 할당이 측정에 섞이지 않도록 같은 이름 사용
+    private static final String JOB_NAME = "footprint";
+
+    /**
+     * 짧은 1회성 작업 (대량 등록 시나리오)
+     */
+    @Benchmark
+    public Job compactJob() {
+        return new JobBuilder()
+                .setName(JOB_NAME)
+                .setInitialDelay(100)
+                .setTimeUnit(TimeUnit.MILLISECONDS)
+                .setTotalRunCount(1)
+                .build();
+    }
+
+    @Benchmark
+    public LegacyJob legacyJob() {
+        LegacyJob legacyJob = new LegacyJob();
+        legacyJob.name = JOB_NAME;
+        legacyJob.initialDelay = 100;
+        legacyJob.timeUnit = TimeUnit.MILLISECONDS;
+        legacyJob.totalRunCount = 1;
+        legacyJob.curRemainRunCount.set(1);
+        return legacyJob;
+    }
+
+    /**
+     * 이전 Job 의 필드 구성 (비교용, 동작은 없음)
+     */
+    @SuppressWarnings("unused")
+    public static class LegacyJob {
+
+        private final AtomicInteger curRemainRunCount = new AtomicInteger(0);
+        private final AtomicBoolean isFinished = new AtomicBoolean(false);
+        private final AtomicLong runState = new AtomicLong(0);
+        private final AtomicInteger runningCount = new AtomicInteger(0);
+        private final AtomicLong missedTickCount = new AtomicLong(0);
+        private Object scheduleManager = null;
+        private String name = null;
+        private int initialDelay = 0;
+        private int interval = 0;
+        private TimeUnit timeUnit = null;
+        private int priority = 0;
+        private int totalRunCount = 0;
+        private boolean isLasted = false;
+        private String scheduleUnitKey = null;
+        private long handle = 0;
+        private OVERRUN_POLICY_TYPE overrunPolicy = OVERRUN_POLICY_TYPE.QUEUE;
+        private int maxPendingRunCount = Integer.MAX_VALUE;
+        private Object latencyMetrics = null;
+        private long startDeadlineNanos = 0;
+        private final AtomicLong lateStartCount = new AtomicLong(0);
+        private Object rateLimiter = null;
+        private final AtomicLong throttledCount = new AtomicLong(0);
+        private Runnable runnable = null;
+        private Object jobFinishCallBack = null;
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.JOB_QUEUE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.queue.JobQueue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : JobQueueManagerBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobQueue 추가(addJobInQueue) / 반출(exportJobFromQueue) 다중 생산자-소비자 처리량 벤치마크
+ * - queueType : LOCKED_DEQUE(JobQueueManager) / RING_BUFFER(RingBufferJobQueueManager)
+ * - p1c1 / p4c4 / p8c8 / p16c16 : 생산자 쓰레드 수 = 소비자 쓰레드 수 (코어 수 이상이면 선점 영향이 섞임)
+ * - 비차단 메서드를 사용하므로 가득 찬 큐에 추가하거나 빈 큐에서 반출한 호출도 처리량에 포함됨
+ * - 실제로 성공한 추가/반출 수는 added / exported 보조 카운터로 확인
+ * - p4c4Batch : addJobsInQueue / drainTo 로 BATCH_SIZE 개씩 일괄 추가·반출 (added 는 성공한 일괄 호출 수)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobQueueManagerBenchmark {
+
+    private static final int BATCH_SIZE = 16;
+
+    @State(Scope.Group)
+    public static class QueueState {
+
+        @Param({"LOCKED_DEQUE", "RING_BUFFER"})
+        public JOB_QUEUE_TYPE queueType;
+
+        @Param({"1024"})
+        public int watermark;
+
+        public JobQueue jobQueue;
+        public Job job;
+        public List<Job> jobs;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            // 반복마다 빈 큐에서 시작
+            jobQueue = JobQueue.of(queueType, watermark);
+            job = new JobBuilder()
+                    .setName("queue")
+                    .build();
+            jobs = Collections.nCopies(BATCH_SIZE, job);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class QueueCounter {
+
+        public long added;
+        public long exported;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            added = 0;
+            exported = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DrainBuffer {
+
+        public final List<Job> drainedJobs = new ArrayList<>(BATCH_SIZE);
+    }
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    @Benchmark
+    @Group("p1c1")
+    @GroupThreads(1)
+    public boolean p1c1Add(QueueState queueState, QueueCounter queueCounter) {
+        return add(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p1c1")
+    @GroupThreads(1)
+    public Job p1c1Export(QueueState queueState, QueueCounter queueCounter) {
+        return export(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p4c4")
+    @GroupThreads(4)
+    public boolean p4c4Add(QueueState queueState, QueueCounter queueCounter) {
+        return add(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p4c4")
+    @GroupThreads(4)
+    public Job p4c4Export(QueueState queueState, QueueCounter queueCounter) {
+        return export(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p8c8")
+    @GroupThreads(8)
+    public boolean p8c8Add(QueueState queueState, QueueCounter queueCounter) {
+        return add(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p8c8")
+    @GroupThreads(8)
+    public Job p8c8Export(QueueState queueState, QueueCounter queueCounter) {
+        return export(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p16c16")
+    @GroupThreads(16)
+    public boolean p16c16Add(QueueState queueState, QueueCounter queueCounter) {
+        return add(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p16c16")
+    @GroupThreads(16)
+    public Job p16c16Export(QueueState queueState, QueueCounter queueCounter) {
+        return export(queueState, queueCounter);
+    }
+
+    @Benchmark
+    @Group("p4c4Batch")
+    @GroupThreads(4)
+    public boolean p4c4BatchAdd(QueueState queueState, QueueCounter queueCounter) {
+        boolean isAdded = queueState.jobQueue.addJobsInQueue(queueState.jobs);
+        if (isAdded) {
+            queueCounter.added++;
+        }
+        return isAdded;
+    }
+
+    @Benchmark
+    @Group("p4c4Batch")
+    @GroupThreads(4)
+    public int p4c4BatchExport(QueueState queueState, QueueCounter queueCounter, DrainBuffer drainBuffer) {
+        drainBuffer.drainedJobs.clear();
+        int drainedCount = queueState.jobQueue.drainTo(drainBuffer.drainedJobs, BATCH_SIZE);
+        queueCounter.exported += drainedCount;
+        return drainedCount;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    private static boolean add(QueueState queueState, QueueCounter queueCounter) {
+        boolean isAdded = queueState.jobQueue.addJobInQueue(queueState.job, 0);
+        if (isAdded) {
+            queueCounter.added++;
+        }
+        return isAdded;
+    }
+
+    private static Job export(QueueState queueState, QueueCounter queueCounter) {
+        Job job = queueState.jobQueue.exportJobFromQueue();
+        if (job != null) {
+            queueCounter.exported++;
+        }
+        return job;
+    }
+
+}
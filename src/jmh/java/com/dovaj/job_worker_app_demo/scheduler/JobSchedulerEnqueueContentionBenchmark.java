@@ -0,0 +1,113 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutorLoad;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : JobSchedulerEnqueueContentionBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 여러 타이머 쓰레드가 하나의 단위(JobScheduler)에 동시에 적재할 때의 처리량 벤치마크
+ * - globalLock=true  : 기존 executorLock 과 동일하게 모든 적재를 하나의 lock 으로 직렬화
+ * - globalLock=false : 현재 lock-free 적재 경로
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobSchedulerEnqueueContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SchedulerState {
+
+        @Param({"false", "true"})
+        public boolean globalLock;
+
+        @Param({"5"})
+        public int poolSize;
+
+        public final ReentrantLock executorLock = new ReentrantLock();
+        public final AtomicInteger timerSequence = new AtomicInteger(0);
+        public JobScheduler jobScheduler;
+        public Job job;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            jobScheduler = new JobScheduler("BENCH_CONTENTION", poolSize, 1024);
+            job = new JobBuilder()
+                    .setName("contention")
+                    .setIsLasted(true)
+                    .build();
+            job.setRunnable(() -> {
+                // 적재 경로만 측정하기 위해 빈 작업 사용
+            });
+        }
+
+        @TearDown(Level.Iteration)
+        public void drain() throws InterruptedException {
+            // 다음 반복에 잔여 큐가 영향을 주지 않도록 소비 완료까지 대기
+            while (jobScheduler.getExecutorLoads().stream().mapToInt(JobExecutorLoad::getQueuedJobCount).sum() > 0) {
+                Thread.sleep(10);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jobScheduler.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TimerState {
+
+        // 타이머(JobAdder) 하나가 하나의 executor 에 고정되는 상황을 모사
+        public int executorIndex;
+
+        @Setup(Level.Trial)
+        public void setUp(SchedulerState schedulerState) {
+            executorIndex = schedulerState.timerSequence.getAndIncrement() % schedulerState.poolSize;
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void addJobToExecutor(SchedulerState schedulerState, TimerState timerState) {
+        if (schedulerState.globalLock) {
+            schedulerState.executorLock.lock();
+            try {
+                schedulerState.jobScheduler.addJobToExecutor(timerState.executorIndex, schedulerState.job);
+            } finally {
+                schedulerState.executorLock.unlock();
+            }
+        } else {
+            schedulerState.jobScheduler.addJobToExecutor(timerState.executorIndex, schedulerState.job);
+        }
+    }
+
+}
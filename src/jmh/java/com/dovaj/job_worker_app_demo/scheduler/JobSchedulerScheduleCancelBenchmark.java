@@ -0,0 +1,125 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : JobSchedulerScheduleCancelBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobScheduler 예약(schedule) / 취소(cancel) 처리량 벤치마크
+ * - 한 번의 호출에서 작업 하나를 예약한 뒤 바로 취소 (타이머 등록/해제 + 색인 갱신 + scheduleLock 비용)
+ * - residentJobCount : 미리 예약해 둔 작업 수 (색인 크기에 따른 비용 변화 확인)
+ * - 작업 주기를 1시간으로 두어 측정 중에는 발화하지 않음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobSchedulerScheduleCancelBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SchedulerState {
+
+        @Param({"0", "10000"})
+        public int residentJobCount;
+
+        public final AtomicInteger threadSequence = new AtomicInteger(0);
+        public JobScheduler jobScheduler;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            jobScheduler = new JobScheduler("BENCH_SCHEDULE", 4, 1024);
+            for (int i = 0; i < residentJobCount; i++) {
+                jobScheduler.schedule(newJob("resident-" + i));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jobScheduler.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class JobState {
+
+        // 이름 생성 비용이 측정에 섞이지 않도록 미리 만들어 둔 이름을 순환 사용
+        private static final int NAME_COUNT = 1024;
+
+        public final String[] names = new String[NAME_COUNT];
+        public int nameIndex = 0;
+
+        @Setup(Level.Trial)
+        public void setUp(SchedulerState schedulerState) {
+            int threadIndex = schedulerState.threadSequence.getAndIncrement();
+            for (int i = 0; i < NAME_COUNT; i++) {
+                names[i] = "bench-" + threadIndex + "-" + i;
+            }
+        }
+
+        public String nextName() {
+            String name = names[nameIndex];
+            nameIndex = (nameIndex + 1) & (NAME_COUNT - 1);
+            return name;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Job scheduleCancel(SchedulerState schedulerState, JobState jobState) {
+        return scheduleAndCancel(schedulerState, jobState);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Job scheduleCancelContended(SchedulerState schedulerState, JobState jobState) {
+        return scheduleAndCancel(schedulerState, jobState);
+    }
+
+    private static Job scheduleAndCancel(SchedulerState schedulerState, JobState jobState) {
+        Job job = newJob(jobState.nextName());
+        schedulerState.jobScheduler.schedule(job);
+        schedulerState.jobScheduler.cancel(job);
+        return job;
+    }
+
+    private static Job newJob(String name) {
+        Job job = new JobBuilder()
+                .setName(name)
+                .setInitialDelay(1)
+                .setInterval(1)
+                .setTimeUnit(TimeUnit.HOURS)
+                .setIsLasted(true)
+                .build();
+        job.setRunnable(() -> {
+            // 발화하지 않음
+        });
+        return job;
+    }
+
+}
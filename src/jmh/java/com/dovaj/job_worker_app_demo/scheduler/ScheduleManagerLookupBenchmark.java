@@ -0,0 +1,117 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.ScheduleManager;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : ScheduleManagerLookupBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : ScheduleManager 단위(ScheduleUnit) 조회 경합 벤치마크
+ * - lookup        : 여러 쓰레드가 동시에 key 로 단위를 조회 (startJob / stopJob 의 조회 경로)
+ * - lookupChurn   : 조회 쓰레드 7 개 + 단위를 추가/삭제하는 쓰레드 1 개 (스냅샷 갱신과의 경합)
+ * - 단위 생성 시 쓰레드가 만들어지지 않도록 공유 런타임 위에서 측정
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleManagerLookupBenchmark {
+
+    private static final String CHURN_UNIT_KEY = "BENCH_CHURN_UNIT";
+
+    @State(Scope.Benchmark)
+    public static class ManagerState {
+
+        @Param({"8", "64"})
+        public int unitCount;
+
+        public SchedulerRuntime schedulerRuntime;
+        public ScheduleManager scheduleManager;
+        public String[] keys;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            schedulerRuntime = new SchedulerRuntime("BENCH_LOOKUP", 1);
+            scheduleManager = new ScheduleManager(schedulerRuntime);
+            keys = new String[unitCount];
+            for (int i = 0; i < unitCount; i++) {
+                keys[i] = "BENCH_UNIT_" + i;
+                scheduleManager.initJob(keys[i], 1, 16);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            scheduleManager.finish();
+            schedulerRuntime.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class KeyCursor {
+
+        public int keyIndex = 0;
+
+        public String nextKey(ManagerState managerState) {
+            String[] keys = managerState.keys;
+            String key = keys[keyIndex];
+            keyIndex = (keyIndex + 1 < keys.length) ? keyIndex + 1 : 0;
+            return key;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ScheduleUnit lookup(ManagerState managerState, KeyCursor keyCursor) {
+        return managerState.scheduleManager.getScheduleUnit(keyCursor.nextKey(managerState));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Map<String, ScheduleUnit> snapshot(ManagerState managerState) {
+        return managerState.scheduleManager.getCloneCallMap();
+    }
+
+    @Benchmark
+    @Group("lookupChurn")
+    @GroupThreads(7)
+    public ScheduleUnit lookupUnderChurn(ManagerState managerState, KeyCursor keyCursor) {
+        return managerState.scheduleManager.getScheduleUnit(keyCursor.nextKey(managerState));
+    }
+
+    @Benchmark
+    @Group("lookupChurn")
+    @GroupThreads(1)
+    public void churn(ManagerState managerState) {
+        managerState.scheduleManager.initJob(CHURN_UNIT_KEY, 1, 16);
+        managerState.scheduleManager.stopAll(CHURN_UNIT_KEY);
+    }
+
+}
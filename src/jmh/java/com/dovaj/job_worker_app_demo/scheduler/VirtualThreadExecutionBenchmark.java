@@ -0,0 +1,119 @@
+package com.dovaj.job_worker_app_demo.scheduler;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduler;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOptionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler
+ * fileName       : VirtualThreadExecutionBenchmark
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 본문 실행 방식(BLOCKING 플랫폼 쓰레드 / VIRTUAL_THREAD)별 일괄 처리 시간 벤치마크
+ * - 한 번의 측정마다 batchSize 개의 작업을 적재하고 모두 끝날 때까지 대기
+ * - workload=BLOCKING_IO : 작업마다 blockMillis 동안 sleep (Redis 등 I/O 대기 모사)
+ * - workload=CPU         : 작업마다 cpuTokens 만큼 CPU 소모
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadExecutionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ExecutionState {
+
+        @Param({"BLOCKING", "VIRTUAL_THREAD"})
+        public DISPATCH_MODE_TYPE dispatchMode;
+
+        @Param({"BLOCKING_IO", "CPU"})
+        public String workload;
+
+        @Param({"5"})
+        public int poolSize;
+
+        @Param({"64"})
+        public int batchSize;
+
+        @Param({"5"})
+        public int blockMillis;
+
+        @Param({"20000"})
+        public int cpuTokens;
+
+        public JobScheduler jobScheduler;
+        public Job job;
+        public volatile CountDownLatch batchLatch;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            jobScheduler = new JobScheduler(
+                    "BENCH_VT", poolSize, batchSize,
+                    new ScheduleUnitOptionBuilder()
+                            .setDispatchMode(dispatchMode)
+                            .setVirtualThreadConcurrency(batchSize)
+                            .build()
+            );
+
+            boolean isBlockingIo = "BLOCKING_IO".equals(workload);
+            job = new JobBuilder()
+                    .setName("execution")
+                    .setIsLasted(true)
+                    .build();
+            job.setRunnable(() -> {
+                try {
+                    if (isBlockingIo) {
+                        Thread.sleep(blockMillis);
+                    } else {
+                        Blackhole.consumeCPU(cpuTokens);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    batchLatch.countDown();
+                }
+            });
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            jobScheduler.stop();
+        }
+    }
+
+    @Benchmark
+    public void runBatch(ExecutionState state) throws InterruptedException {
+        CountDownLatch batchLatch = new CountDownLatch(state.batchSize);
+        state.batchLatch = batchLatch;
+
+        for (int i = 0; i < state.batchSize; i++) {
+            state.jobScheduler.addJobToExecutor(i % state.poolSize, state.job);
+        }
+        batchLatch.await();
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.dovaj.job_worker_app_demo.config;
 
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOption;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOptionBuilder;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -31,4 +35,39 @@ public class ScheduleConfig {
     @Value("${schedule.monitoring.thread.queue-size}")
     private Integer scheduleMonitoringThreadPoolQueueSize;
 
+    // 모든 ScheduleManager 가 공유하는 런타임 쓰레드 수 (0 이하면 CPU 코어 수)
+    @Value("${schedule.runtime.thread-count:2}")
+    private Integer scheduleRuntimeThreadCount;
+
+    // 작업 발화 타이머의 tick (주기가 이보다 짧은 작업은 tick 으로 올려서 발화)
+    @Value("${schedule.runtime.timer-tick-millis:10}")
+    private Long scheduleRuntimeTimerTickMillis;
+
+    // 단위별 executor 수 탄력 조절 범위 (max-pool-size 가 0 이면 pool-size 로 고정)
+    @Value("${schedule.executor.min-pool-size:1}")
+    private Integer scheduleExecutorMinPoolSize;
+
+    @Value("${schedule.executor.max-pool-size:0}")
+    private Integer scheduleExecutorMaxPoolSize;
+
+    @Value("${schedule.executor.scale-down-idle-millis:60000}")
+    private Long scheduleExecutorScaleDownIdleMillis;
+
+    /**
+     * 단위 생성 시 사용할 옵션 (executor 수 탄력 조절 범위 적용)
+     */
+    public ScheduleUnitOption newScheduleUnitOption() {
+        return new ScheduleUnitOptionBuilder()
+                .setElasticPoolSize(scheduleExecutorMinPoolSize, scheduleExecutorMaxPoolSize)
+                .setScaleDownIdleMillis(scheduleExecutorScaleDownIdleMillis)
+                .setTimerTickMillis(scheduleRuntimeTimerTickMillis)
+                .build();
+    }
+
+    @Bean(destroyMethod = "stop")
+    public SchedulerRuntime schedulerRuntime() {
+        return new SchedulerRuntime("SCHEDULER_RUNTIME", scheduleRuntimeThreadCount,
+                SchedulerRuntime.DEFAULT_THROUGHPUT, scheduleRuntimeTimerTickMillis);
+    }
+
 }
@@ -0,0 +1,202 @@
+package com.dovaj.job_worker_app_demo.scheduler.collection;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.collection
+ * fileName       : LongObjectHashMap
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : long 기본형 키 해시맵 (open addressing, linear probing)
+ * - 키 boxing / 엔트리 객체 할당이 없어 스케줄링 경로에서 GC 부담이 없음
+ * - 0 은 빈 슬롯 표시로 사용하므로 키로 사용할 수 없음
+ * - 스레드 안전하지 않으므로 외부 lock 으로 보호해야 함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class LongObjectHashMap<V> {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final long EMPTY_KEY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size = 0;
+    private int resizeThreshold;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectHashMap(int initialCapacity) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < initialCapacity) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY_KEY) {
+            return null;
+        }
+
+        int index = indexOf(key);
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("0 can not be used as a key.");
+        }
+        if (value == null) {
+            throw new NullPointerException("value must not be null.");
+        }
+
+        int index = indexOf(key);
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                V oldValue = (V) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == EMPTY_KEY) {
+            return null;
+        }
+
+        int index = indexOf(key);
+        while (keys[index] != EMPTY_KEY) {
+            if (keys[index] == key) {
+                V oldValue = (V) values[index];
+                keys[index] = EMPTY_KEY;
+                values[index] = null;
+                size--;
+                compactChain(index);
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                consumer.accept((V) values[i]);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private int indexOf(long key) {
+        // 순차 증가 키가 인접 슬롯에 몰리지 않도록 섞음 (Fibonacci hashing)
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * 삭제된 슬롯 뒤의 probing 체인을 앞으로 당김 (tombstone 없이 조회 경로 유지)
+     */
+    private void compactChain(int deletedIndex) {
+        int index = (deletedIndex + 1) & mask;
+        while (keys[index] != EMPTY_KEY) {
+            long key = keys[index];
+            int idealIndex = indexOf(key);
+
+            // idealIndex 가 (deletedIndex, index] 순환 구간 밖이면 빈 자리로 이동 가능
+            if (((index - idealIndex) & mask) >= ((index - deletedIndex) & mask)) {
+                keys[deletedIndex] = key;
+                values[deletedIndex] = values[index];
+                keys[index] = EMPTY_KEY;
+                values[index] = null;
+                deletedIndex = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int index = indexOf(oldKeys[i]);
+                while (keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public String toString() {
+        return "LongObjectHashMap{" +
+                "size=" + size +
+                ", capacity=" + keys.length +
+                '}';
+    }
+
+}
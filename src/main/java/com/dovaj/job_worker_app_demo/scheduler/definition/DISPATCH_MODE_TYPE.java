@@ -0,0 +1,25 @@
+package com.dovaj.job_worker_app_demo.scheduler.definition;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.definition
+ * fileName       : DISPATCH_MODE_TYPE
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobExecutor 작업 반출 방식 유형 enum 클래스
+ * - POLLING  : 1ms 주기로 큐를 poll (기존 방식, 빈 큐에서도 계속 깨어남)
+ * - BLOCKING : 큐가 비면 park 하고, 작업이 들어올 때만 signal 로 깨어남
+ * - VIRTUAL_THREAD : BLOCKING 과 같이 반출하되, 작업 본문은 가상 쓰레드에서 실행 (I/O 대기 작업이 executor 를 점유하지 않음)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public enum DISPATCH_MODE_TYPE {
+
+    POLLING,
+    BLOCKING,
+    VIRTUAL_THREAD,
+
+    ;
+
+}
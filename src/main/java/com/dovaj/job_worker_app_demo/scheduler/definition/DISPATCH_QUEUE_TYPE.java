@@ -0,0 +1,25 @@
+package com.dovaj.job_worker_app_demo.scheduler.definition;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.definition
+ * fileName       : DISPATCH_QUEUE_TYPE
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobExecutor 대기 큐 유형 enum 클래스
+ * - PRIORITY_HEAP   : PriorityBlockingQueue (O(log n), 단일 lock, 같은 우선순위 간 순서 미보장)
+ * - PRIORITY_BUCKET : 우선순위별 lock-free FIFO 레인 + 비어있지 않은 레인 bitmap (O(1), 같은 우선순위 간 FIFO)
+ * - EARLIEST_DEADLINE_FIRST : 시작 기한이 있는 작업을 기한 순서로 먼저 반출, 기한이 없으면 priority 순서
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public enum DISPATCH_QUEUE_TYPE {
+
+    PRIORITY_HEAP,
+    PRIORITY_BUCKET,
+    EARLIEST_DEADLINE_FIRST,
+
+    ;
+
+}
@@ -0,0 +1,27 @@
+package com.dovaj.job_worker_app_demo.scheduler.definition;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.definition
+ * fileName       : EXECUTOR_SELECTION_TYPE
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 적재 시 JobExecutor 선택 정책 유형 enum 클래스
+ * - ROUND_ROBIN          : 예약 시점에 순번으로 고정된 executor (기존 방식)
+ * - LEAST_QUEUED         : 대기 작업 수가 가장 적은 executor
+ * - POWER_OF_TWO_CHOICES : 임의의 두 executor 중 대기 작업 수가 적은 쪽
+ * - EWMA_RUN_TIME        : (대기 작업 수 + 실행 중 여부) x 평균 실행 시간(EWMA) 이 가장 작은 executor
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public enum EXECUTOR_SELECTION_TYPE {
+
+    ROUND_ROBIN,
+    LEAST_QUEUED,
+    POWER_OF_TWO_CHOICES,
+    EWMA_RUN_TIME,
+
+    ;
+
+}
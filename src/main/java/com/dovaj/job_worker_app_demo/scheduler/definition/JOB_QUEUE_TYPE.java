@@ -0,0 +1,23 @@
+package com.dovaj.job_worker_app_demo.scheduler.definition;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.definition
+ * fileName       : JOB_QUEUE_TYPE
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : FIFO 작업 큐(JobQueue) 구현 유형 enum 클래스
+ * - LOCKED_DEQUE : ArrayDeque + 단일 ReentrantLock (워터마크 0 이면 무제한)
+ * - RING_BUFFER  : 미리 할당한 2의 거듭제곱 크기 링 + 슬롯별 sequence 번호 (빠른 경로 lock-free, 워터마크가 용량)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public enum JOB_QUEUE_TYPE {
+
+    LOCKED_DEQUE,
+    RING_BUFFER,
+
+    ;
+
+}
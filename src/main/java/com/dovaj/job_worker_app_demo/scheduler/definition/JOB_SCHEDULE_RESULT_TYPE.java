@@ -0,0 +1,31 @@
+package com.dovaj.job_worker_app_demo.scheduler.definition;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.definition
+ * fileName       : JOB_SCHEDULE_RESULT_TYPE
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 일괄 예약 / 취소 결과 유형 enum 클래스
+ * - SUCCESS        : 예약 또는 취소 성공
+ * - INVALID        : 작업 설정 오류 (null, 이름 없음, 반복 작업인데 interval <= 0 등)
+ * - DUPLICATED     : 같은 이름의 작업이 이미 예약되어 있음
+ * - NOT_FOUND      : 취소할 작업이 예약되어 있지 않음
+ * - UNIT_NOT_FOUND : 작업 실행 단위(ScheduleUnit)가 없음
+ * - FAILED         : 그 외 예외
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public enum JOB_SCHEDULE_RESULT_TYPE {
+
+    SUCCESS,
+    INVALID,
+    DUPLICATED,
+    NOT_FOUND,
+    UNIT_NOT_FOUND,
+    FAILED,
+
+    ;
+
+}
@@ -0,0 +1,25 @@
+package com.dovaj.job_worker_app_demo.scheduler.definition;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.definition
+ * fileName       : OVERRUN_POLICY_TYPE
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 반복 작업의 이전 실행이 끝나기 전에 다음 주기가 도래했을 때의 처리 정책 enum 클래스
+ * - SKIP     : 대기 중이거나 실행 중인 회차가 있으면 이번 주기를 건너뜀
+ * - COALESCE : 대기 중인 회차가 없을 때만 적재 (실행 중이어도 최대 1개의 대기 회차로 합침)
+ * - QUEUE    : 대기 회차가 maxPendingRunCount 미만일 때만 적재 (기본값은 무제한, 기존 동작)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public enum OVERRUN_POLICY_TYPE {
+
+    SKIP,
+    COALESCE,
+    QUEUE,
+
+    ;
+
+}
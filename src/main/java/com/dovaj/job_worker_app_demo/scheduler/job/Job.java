@@ -1,11 +1,14 @@
 package com.dovaj.job_worker_app_demo.scheduler.job;
 
+import com.dovaj.job_worker_app_demo.scheduler.definition.OVERRUN_POLICY_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencyMetrics;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.ScheduleManager;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.callback.JobFinishCallBack;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.limiter.TokenBucketRateLimiter;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * packageName    : com.dovaj.job_worker_app_demo.scheduler.job
@@ -20,17 +23,60 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class Job {
 
-    private final AtomicInteger curRemainRunCount = new AtomicInteger(0);
-    private final AtomicBoolean isFinished = new AtomicBoolean(false);
+    // 작업 수가 매우 많아도 작업당 부가 객체가 생기지 않도록 카운터와 플래그는 원시 필드에 두고 VarHandle 로 원자 연산
+    // (volatile 필드는 생성 시 불필요한 volatile 쓰기가 없도록 기본값으로 둠)
+    private static final VarHandle RUN_STATE;
+    private static final VarHandle CUR_REMAIN_RUN_COUNT;
+    private static final VarHandle MISSED_TICK_COUNT;
+    private static final VarHandle LATE_START_COUNT;
+    private static final VarHandle THROTTLED_COUNT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RUN_STATE = lookup.findVarHandle(Job.class, "runState", long.class);
+            CUR_REMAIN_RUN_COUNT = lookup.findVarHandle(Job.class, "curRemainRunCount", int.class);
+            MISSED_TICK_COUNT = lookup.findVarHandle(Job.class, "missedTickCount", long.class);
+            LATE_START_COUNT = lookup.findVarHandle(Job.class, "lateStartCount", long.class);
+            THROTTLED_COUNT = lookup.findVarHandle(Job.class, "throttledCount", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // runState 구성 (한 번의 CAS 로 함께 확인/갱신)
+    // - 0 ~ 31 bit : executor 큐에 적재되어 실행을 기다리는 회차 수
+    // - 32 ~ 59 bit : 실행 중인 회차 수
+    // - FINISHED_BIT : 종료 여부, DEFERRED_BIT : 실행 횟수 제한으로 지연 중인 회차 있음, CANCELLED_BIT : 취소 표식
+    private static final long PENDING_RUN_MASK = 0xFFFFFFFFL;
+    private static final int RUNNING_RUN_SHIFT = 32;
+    private static final long RUNNING_RUN_UNIT = 1L << RUNNING_RUN_SHIFT;
+    private static final long RUNNING_RUN_MASK = 0x0FFFFFFFL << RUNNING_RUN_SHIFT;
+    private static final long FINISHED_BIT = 1L << 60;
+    private static final long DEFERRED_BIT = 1L << 61;
+    private static final long CANCELLED_BIT = 1L << 62;
+
+    private volatile long runState;
+    private volatile int curRemainRunCount;
+    private volatile long missedTickCount; // overrun 정책에 의해 적재되지 않은 주기 수
     private ScheduleManager scheduleManager = null;
     private String name = null;
-    private int initialDelay = 0;
-    private int interval = 0;
+    // 설정 시 한 번만 nano 로 변환해 두고, 설정 단위 값은 timeUnit 으로 되돌려 계산
+    private long initialDelayNanos = 0;
+    private long intervalNanos = 0;
     private TimeUnit timeUnit = null; // ex) TimeUnit.MILLISECONDS
     private int priority = 0;
     private int totalRunCount = 0;
     private boolean isLasted = false;
     private String scheduleUnitKey = null;
+    private long handle = 0; // 예약 시 JobScheduler 가 발급하는 단위 내 고유 번호 (0 = 미예약)
+    private OVERRUN_POLICY_TYPE overrunPolicy = OVERRUN_POLICY_TYPE.QUEUE;
+    private int maxPendingRunCount = Integer.MAX_VALUE; // QUEUE 정책에서만 사용
+    private JobLatencyMetrics latencyMetrics = null; // 예약 시 JobScheduler 가 생성
+    private long startDeadlineNanos = 0; // 발화 후 이 시간 안에 실행을 시작해야 함 (0 = 기한 없음)
+    private volatile long lateStartCount; // 시작 기한을 넘겨 실행된 회차 수
+    private TokenBucketRateLimiter rateLimiter = null; // 작업별 실행 횟수 제한 (null 이면 제한 없음)
+    private volatile long throttledCount; // 실행 횟수 제한으로 지연된 회차 수
     private Runnable runnable = null;
 
     private JobFinishCallBack jobFinishCallBack = null;
@@ -56,27 +102,50 @@ public class Job {
     }
 
     public int getInitialDelay() {
-        return initialDelay;
+        return (int) getConfiguredTimeUnit().convert(initialDelayNanos, TimeUnit.NANOSECONDS);
     }
 
     public void setInitialDelay(int initialDelay) {
-        this.initialDelay = initialDelay;
+        this.initialDelayNanos = getConfiguredTimeUnit().toNanos(initialDelay);
     }
 
     public int getInterval() {
-        return interval;
+        return (int) getConfiguredTimeUnit().convert(intervalNanos, TimeUnit.NANOSECONDS);
     }
 
     public void setInterval(int interval) {
-        this.interval = interval;
+        this.intervalNanos = getConfiguredTimeUnit().toNanos(interval);
+    }
+
+    public long getInitialDelayNanos() {
+        return initialDelayNanos;
+    }
+
+    /**
+     * 반복 주기 (0 이하면 1회 실행)
+     */
+    public long getIntervalNanos() {
+        return intervalNanos;
     }
 
     public TimeUnit getTimeUnit() {
         return timeUnit;
     }
 
+    /**
+     * 이미 설정한 initialDelay / interval 값은 새 단위 기준 값으로 유지됨 (설정 순서와 무관)
+     */
     public void setTimeUnit(TimeUnit timeUnit) {
+        int curInitialDelay = getInitialDelay();
+        int curInterval = getInterval();
         this.timeUnit = timeUnit;
+        setInitialDelay(curInitialDelay);
+        setInterval(curInterval);
+    }
+
+    // 단위가 아직 없으면 설정 값을 nano 필드에 그대로 보관
+    private TimeUnit getConfiguredTimeUnit() {
+        return (timeUnit != null) ? timeUnit : TimeUnit.NANOSECONDS;
     }
 
     public int getPriority() {
@@ -96,19 +165,19 @@ public class Job {
     }
 
     public int getCurRemainRunCount() {
-        return curRemainRunCount.get();
+        return curRemainRunCount;
     }
 
     public void setCurRemainRunCount(int curRemainRunCount) {
-        this.curRemainRunCount.set(curRemainRunCount);
+        this.curRemainRunCount = curRemainRunCount;
     }
 
     public int incCurRemainRunCount() {
-        return curRemainRunCount.incrementAndGet();
+        return (int) CUR_REMAIN_RUN_COUNT.getAndAdd(this, 1) + 1;
     }
 
     public int decCurRemainRunCount() {
-        return curRemainRunCount.decrementAndGet();
+        return (int) CUR_REMAIN_RUN_COUNT.getAndAdd(this, -1) - 1;
     }
 
     public boolean isLasted() {
@@ -120,11 +189,15 @@ public class Job {
     }
 
     public boolean getIsFinished() {
-        return isFinished.get();
+        return (runState & FINISHED_BIT) != 0;
     }
 
     public void setIsFinished(boolean isFinished) {
-        this.isFinished.set(isFinished);
+        if (isFinished) {
+            RUN_STATE.getAndBitwiseOr(this, FINISHED_BIT);
+        } else {
+            RUN_STATE.getAndBitwiseAnd(this, ~FINISHED_BIT);
+        }
     }
 
     public String getScheduleUnitKey() {
@@ -135,6 +208,234 @@ public class Job {
         this.scheduleUnitKey = scheduleUnitKey;
     }
 
+    public long getHandle() {
+        return handle;
+    }
+
+    public void setHandle(long handle) {
+        this.handle = handle;
+    }
+
+    public OVERRUN_POLICY_TYPE getOverrunPolicy() {
+        return overrunPolicy;
+    }
+
+    public void setOverrunPolicy(OVERRUN_POLICY_TYPE overrunPolicy) {
+        this.overrunPolicy = overrunPolicy;
+    }
+
+    public int getMaxPendingRunCount() {
+        return maxPendingRunCount;
+    }
+
+    public void setMaxPendingRunCount(int maxPendingRunCount) {
+        this.maxPendingRunCount = maxPendingRunCount;
+    }
+
+    public int getPendingRunCount() {
+        return (int) (runState & PENDING_RUN_MASK);
+    }
+
+    public int getRunningRunCount() {
+        return (int) ((runState & RUNNING_RUN_MASK) >>> RUNNING_RUN_SHIFT);
+    }
+
+    public boolean isCancelled() {
+        return (runState & CANCELLED_BIT) != 0;
+    }
+
+    /**
+     * 취소 표식을 남겨 이미 큐에 적재된 회차들이 꺼내질 때 실행되지 않고 버려지도록 함
+     * - 큐를 뒤지지 않으므로 O(1), 이후 회차 예약도 모두 거절됨
+     *
+     * @return 처음 취소한 경우 true
+     */
+    public boolean cancelQueuedRuns() {
+        long prevRunState = (long) RUN_STATE.getAndBitwiseOr(this, CANCELLED_BIT);
+        return (prevRunState & CANCELLED_BIT) == 0;
+    }
+
+    public int getRunningCount() {
+        return (int) ((runState & RUNNING_RUN_MASK) >>> RUNNING_RUN_SHIFT);
+    }
+
+    public long getMissedTickCount() {
+        return missedTickCount;
+    }
+
+    /**
+     * 주기 도래 시 overrun 정책에 따라 실행 회차 하나를 예약
+     * - 실패 시 missedTickCount 증가
+     *
+     * @return executor 에 적재해도 되면 true
+     */
+    public boolean tryReservePendingRun() {
+        boolean isSkipWhileRunning = false;
+        int limit;
+        switch (overrunPolicy) {
+            case SKIP:
+                isSkipWhileRunning = true;
+                limit = 1;
+                break;
+            case COALESCE:
+                limit = 1;
+                break;
+            case QUEUE:
+            default:
+                limit = maxPendingRunCount;
+                break;
+        }
+
+        for (; ; ) {
+            long curRunState = runState;
+            if ((curRunState & CANCELLED_BIT) != 0) {
+                // 취소된 작업은 주기 누락으로 집계하지 않음
+                return false;
+            }
+            if ((isSkipWhileRunning && (curRunState & RUNNING_RUN_MASK) != 0)
+                    || (curRunState & PENDING_RUN_MASK) >= limit) {
+                MISSED_TICK_COUNT.getAndAdd(this, 1L);
+                return false;
+            }
+            if (RUN_STATE.compareAndSet(this, curRunState, curRunState + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 예약한 회차를 적재하지 못했거나, 취소되어 큐에서 버려질 때 되돌림
+     */
+    public void cancelPendingRun() {
+        releasePendingRun();
+    }
+
+    /**
+     * executor 가 큐에서 꺼내 실행을 시작할 때 호출
+     * - 대기 회차 반납과 취소 여부 확인을 한 번의 CAS 로 처리하므로, 취소 이후에는 새로 실행이 시작되지 않음
+     *
+     * @return 취소된 작업이라 실행하지 않아야 하면 false
+     */
+    public boolean tryStartRun() {
+        // 대기 회차 반납과 실행 수 증가를 함께 반영하므로 SKIP 정책 판단에 빈틈이 없음
+        for (; ; ) {
+            long curRunState = runState;
+            // 예약 없이 executor 에 직접 적재된 경우 대기 회차가 0 이므로 그대로 둠
+            long nextRunState = ((curRunState & PENDING_RUN_MASK) != 0) ? curRunState - 1 : curRunState;
+            boolean isCancelled = (curRunState & CANCELLED_BIT) != 0;
+            if (!isCancelled) {
+                nextRunState += RUNNING_RUN_UNIT;
+            }
+            if (RUN_STATE.compareAndSet(this, curRunState, nextRunState)) {
+                return !isCancelled;
+            }
+        }
+    }
+
+    /**
+     * 대기 회차 하나를 반납 (대기 회차가 0 이면 그대로 둠)
+     */
+    private void releasePendingRun() {
+        for (; ; ) {
+            long curRunState = runState;
+            if ((curRunState & PENDING_RUN_MASK) == 0 ||
+                    RUN_STATE.compareAndSet(this, curRunState, curRunState - 1)) {
+                return;
+            }
+        }
+    }
+
+    public void finishRun() {
+        RUN_STATE.getAndAdd(this, -RUNNING_RUN_UNIT);
+    }
+
+    /**
+     * 실행 중인 회차를 finishRun 이 한 번 더 호출될 때까지 실행 중으로 유지
+     * - 실행 본문이 끝난 뒤에도 executor 를 점유한 것으로 다루는 경우 (시뮬레이션의 가상 실행 시간) 에 사용
+     */
+    public void holdRun() {
+        RUN_STATE.getAndAdd(this, RUNNING_RUN_UNIT);
+    }
+
+    public boolean isRunDeferred() {
+        return (runState & DEFERRED_BIT) != 0;
+    }
+
+    /**
+     * 실행 횟수 제한으로 지연되는 회차 표식 (작업당 하나만 지연시키고 나머지 주기는 합쳐서 버리도록 함)
+     *
+     * @return 이미 지연 중인 회차가 있으면 false
+     */
+    public boolean tryMarkRunDeferred() {
+        long prevRunState = (long) RUN_STATE.getAndBitwiseOr(this, DEFERRED_BIT);
+        return (prevRunState & DEFERRED_BIT) == 0;
+    }
+
+    /**
+     * 지연되던 회차가 적재되었거나 버려졌을 때 표식 해제
+     */
+    public void clearRunDeferred() {
+        RUN_STATE.getAndBitwiseAnd(this, ~DEFERRED_BIT);
+    }
+
+    /**
+     * 지연 중인 회차가 있어 이번 주기를 적재하지 않을 때 예약한 회차를 되돌리고 missedTickCount 증가
+     */
+    public void coalesceDeferredRun() {
+        releasePendingRun();
+        MISSED_TICK_COUNT.getAndAdd(this, 1L);
+    }
+
+    public JobLatencyMetrics getLatencyMetrics() {
+        return latencyMetrics;
+    }
+
+    public void setLatencyMetrics(JobLatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    public long getStartDeadlineNanos() {
+        return startDeadlineNanos;
+    }
+
+    public void setStartDeadlineNanos(long startDeadlineNanos) {
+        this.startDeadlineNanos = startDeadlineNanos;
+    }
+
+    public long getLateStartCount() {
+        return lateStartCount;
+    }
+
+    /**
+     * 실행 시작 시각이 시작 기한을 넘겼으면 lateStartCount 증가
+     *
+     * @param startDeadlineNanoTime 실행하는 회차의 시작 기한 (여러 회차가 대기할 수 있으므로 적재 시 회차별로 고정한 값)
+     * @return 기한을 넘겼으면 true
+     */
+    public boolean checkLateStart(long startNanoTime, long startDeadlineNanoTime) {
+        if (startDeadlineNanos <= 0 || (startNanoTime - startDeadlineNanoTime) <= 0) {
+            return false;
+        }
+        LATE_START_COUNT.getAndAdd(this, 1L);
+        return true;
+    }
+
+    public TokenBucketRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public void setRateLimiter(TokenBucketRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public long getThrottledCount() {
+        return throttledCount;
+    }
+
+    public void incThrottledCount() {
+        THROTTLED_COUNT.getAndAdd(this, 1L);
+    }
+
     public Runnable getRunnable() {
         return runnable;
     }
@@ -155,15 +456,25 @@ public class Job {
     public String toString() {
         return "Job{" +
                 "name='" + name + '\'' +
-                ", initialDelay=" + initialDelay +
-                ", interval=" + interval +
+                ", initialDelay=" + getInitialDelay() +
+                ", interval=" + getInterval() +
                 ", timeUnit=" + timeUnit +
                 ", priority=" + priority +
                 ", totalRunCount=" + totalRunCount +
-                ", curRemainRunCount=" + curRemainRunCount.get() +
+                ", curRemainRunCount=" + curRemainRunCount +
                 ", isLasted=" + isLasted +
-                ", isFinished=" + isFinished.get() +
+                ", isFinished=" + getIsFinished() +
                 ", scheduleUnitKey=" + scheduleUnitKey +
+                ", handle=" + handle +
+                ", overrunPolicy=" + overrunPolicy +
+                ", pendingRunCount=" + getPendingRunCount() +
+                ", runningRunCount=" + getRunningRunCount() +
+                ", isCancelled=" + isCancelled() +
+                ", isRunDeferred=" + isRunDeferred() +
+                ", missedTickCount=" + missedTickCount +
+                ", startDeadlineNanos=" + startDeadlineNanos +
+                ", lateStartCount=" + lateStartCount +
+                ", throttledCount=" + throttledCount +
                 '}';
     }
 
@@ -1,7 +1,9 @@
 package com.dovaj.job_worker_app_demo.scheduler.job;
 
+import com.dovaj.job_worker_app_demo.scheduler.definition.OVERRUN_POLICY_TYPE;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.ScheduleManager;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.callback.JobFinishCallBack;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.limiter.TokenBucketRateLimiter;
 
 import java.util.concurrent.TimeUnit;
 
@@ -70,6 +72,45 @@ public class JobBuilder {
         return this;
     }
 
+    public JobBuilder setOverrunPolicy(OVERRUN_POLICY_TYPE overrunPolicy) {
+        if (overrunPolicy != null) {
+            job.setOverrunPolicy(overrunPolicy);
+        }
+        return this;
+    }
+
+    /**
+     * QUEUE 정책에서 동시에 대기할 수 있는 최대 회차 수 (1 이상)
+     */
+    public JobBuilder setMaxPendingRunCount(int maxPendingRunCount) {
+        job.setMaxPendingRunCount(Math.max(1, maxPendingRunCount));
+        return this;
+    }
+
+    /**
+     * 발화 시각 이후 실행을 시작해야 하는 기한 (0 이하면 기한 없음)
+     * - EARLIEST_DEADLINE_FIRST 큐에서는 이 기한 순서로 먼저 실행됨
+     */
+    public JobBuilder setStartDeadline(long startDeadline, TimeUnit timeUnit) {
+        if (startDeadline > 0 && timeUnit != null) {
+            job.setStartDeadlineNanos(timeUnit.toNanos(startDeadline));
+        } else {
+            job.setStartDeadlineNanos(0);
+        }
+        return this;
+    }
+
+    /**
+     * 작업별 실행 횟수 제한 (초당 permitsPerSecond 회, 최대 burst 회 연속)
+     * - 제한에 걸린 회차는 버리지 않고 토큰이 생길 때까지 지연됨
+     *
+     * @param permitsPerSecond 0 이하면 제한 없음
+     */
+    public JobBuilder setRateLimit(double permitsPerSecond, int burst) {
+        job.setRateLimiter((permitsPerSecond > 0) ? new TokenBucketRateLimiter(permitsPerSecond, burst) : null);
+        return this;
+    }
+
     public Job build() {
         return job;
     }
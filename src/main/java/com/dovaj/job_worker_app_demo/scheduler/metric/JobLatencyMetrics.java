@@ -0,0 +1,53 @@
+package com.dovaj.job_worker_app_demo.scheduler.metric;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.metric
+ * fileName       : JobLatencyMetrics
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 실행 단계별 지연 히스토그램 묶음 클래스 (단위 전체 또는 작업 하나)
+ * - fireToEnqueue  : 타이머의 의도된 발화 시각 -> executor 큐 적재
+ * - enqueueToStart : executor 큐 적재 -> runnable 실행 시작
+ * - runTime        : runnable 실행 시간
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class JobLatencyMetrics {
+
+    private final String name;
+    private final LatencyHistogram fireToEnqueue = new LatencyHistogram();
+    private final LatencyHistogram enqueueToStart = new LatencyHistogram();
+    private final LatencyHistogram runTime = new LatencyHistogram();
+
+    public JobLatencyMetrics(String name) {
+        this.name = name;
+    }
+
+    public void recordFireToEnqueue(long nanos) {
+        fireToEnqueue.record(nanos);
+    }
+
+    public void recordEnqueueToStart(long nanos) {
+        enqueueToStart.record(nanos);
+    }
+
+    public void recordRunTime(long nanos) {
+        runTime.record(nanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public JobLatencySnapshot snapshot() {
+        return new JobLatencySnapshot(
+                name,
+                fireToEnqueue.snapshot(),
+                enqueueToStart.snapshot(),
+                runTime.snapshot()
+        );
+    }
+
+}
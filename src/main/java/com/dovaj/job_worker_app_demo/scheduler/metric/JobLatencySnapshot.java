@@ -0,0 +1,55 @@
+package com.dovaj.job_worker_app_demo.scheduler.metric;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.metric
+ * fileName       : JobLatencySnapshot
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobLatencyMetrics 스냅샷 클래스 (불변)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class JobLatencySnapshot {
+
+    private final String name;
+    private final LatencySnapshot fireToEnqueue;
+    private final LatencySnapshot enqueueToStart;
+    private final LatencySnapshot runTime;
+
+    public JobLatencySnapshot(String name, LatencySnapshot fireToEnqueue,
+                              LatencySnapshot enqueueToStart, LatencySnapshot runTime) {
+        this.name = name;
+        this.fireToEnqueue = fireToEnqueue;
+        this.enqueueToStart = enqueueToStart;
+        this.runTime = runTime;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencySnapshot getFireToEnqueue() {
+        return fireToEnqueue;
+    }
+
+    public LatencySnapshot getEnqueueToStart() {
+        return enqueueToStart;
+    }
+
+    public LatencySnapshot getRunTime() {
+        return runTime;
+    }
+
+    @Override
+    public String toString() {
+        return "JobLatencySnapshot{" +
+                "name='" + name + '\'' +
+                ", fireToEnqueue=" + fireToEnqueue +
+                ", enqueueToStart=" + enqueueToStart +
+                ", runTime=" + runTime +
+                '}';
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.dovaj.job_worker_app_demo.scheduler.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.metric
+ * fileName       : LatencyHistogram
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : lock-free 로그 선형(log-linear) 지연 히스토그램 클래스 (nano 단위)
+ * - 2의 거듭제곱 구간마다 8개 하위 구간을 두어 상대 오차 12.5% 이내로 기록
+ * - 기록은 배열 인덱스 계산 + 원자적 증가뿐이므로 객체 할당이 없음
+ * - 구간 배열(약 2.5KB)은 첫 기록 시 한 번만 생성 (실행되지 않는 작업은 비용 없음)
+ * - 약 2^41 ns (약 36분) 이상은 마지막 구간에 누적
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class LatencyHistogram {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private static final AtomicReferenceFieldUpdater<LatencyHistogram, AtomicLongArray> BUCKET_COUNTS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(LatencyHistogram.class, AtomicLongArray.class, "bucketCounts");
+
+    private volatile AtomicLongArray bucketCounts = null;
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong(0);
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+
+        AtomicLongArray curBucketCounts = bucketCounts;
+        if (curBucketCounts == null) {
+            curBucketCounts = initBucketCounts();
+        }
+
+        curBucketCounts.incrementAndGet(toBucketIndex(nanos));
+        totalNanos.add(nanos);
+
+        long curMax = maxNanos.get();
+        while (nanos > curMax && !maxNanos.compareAndSet(curMax, nanos)) {
+            curMax = maxNanos.get();
+        }
+    }
+
+    /**
+     * 현재까지 기록된 값의 스냅샷
+     * - 기록과 동시에 호출되면 구간별 합계와 평균 / 최댓값이 서로 약간 어긋날 수 있음
+     */
+    public LatencySnapshot snapshot() {
+        AtomicLongArray curBucketCounts = bucketCounts;
+        if (curBucketCounts == null) {
+            return new LatencySnapshot(0, 0, 0, 0, 0, 0, 0);
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long totalCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = curBucketCounts.get(i);
+            totalCount += counts[i];
+        }
+
+        long max = maxNanos.get();
+        if (totalCount == 0) {
+            return new LatencySnapshot(0, 0, 0, 0, 0, 0, 0);
+        }
+
+        return new LatencySnapshot(
+                totalCount,
+                totalNanos.sum() / totalCount,
+                valueAtPercentile(counts, totalCount, 50.0, max),
+                valueAtPercentile(counts, totalCount, 90.0, max),
+                valueAtPercentile(counts, totalCount, 99.0, max),
+                valueAtPercentile(counts, totalCount, 99.9, max),
+                max
+        );
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private AtomicLongArray initBucketCounts() {
+        BUCKET_COUNTS_UPDATER.compareAndSet(this, null, new AtomicLongArray(BUCKET_COUNT));
+        return bucketCounts;
+    }
+
+    static int toBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int) ((nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * 구간의 상한 값 (백분위 값은 보수적으로 구간 상한으로 보고)
+     */
+    static long toBucketUpperBound(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+
+        int exponent = (bucketIndex >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        int subBucket = bucketIndex & (SUB_BUCKET_COUNT - 1);
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lowerBound = ((long) (SUB_BUCKET_COUNT + subBucket)) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static long valueAtPercentile(long[] counts, long totalCount, double percentile, long max) {
+        long targetCount = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= targetCount) {
+                return Math.min(toBucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
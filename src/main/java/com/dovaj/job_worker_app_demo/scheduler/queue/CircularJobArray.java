@@ -0,0 +1,129 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+
+import java.util.Arrays;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : CircularJobArray
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobQueueManager 내부 저장소용 원형 배열 (임의 접근 가능한 FIFO)
+ * - 길이는 항상 2의 거듭제곱이며, 가득 차면 두 배로 늘림 (줄이지는 않음)
+ * - 인덱스 조회는 (head + index) & mask 로 O(1), 구간 복사는 최대 두 번의 System.arraycopy
+ * - 동기화하지 않으므로 JobQueueManager 의 lock 을 잡은 상태에서만 사용
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+final class CircularJobArray {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Job[] elements;
+    private int head = 0; // 맨 앞 요소 위치
+    private int count = 0;
+
+    CircularJobArray(int expectedCapacity) {
+        int capacity = INITIAL_CAPACITY;
+        // 워터마크가 작으면 처음부터 그 크기로, 크면 필요할 때 늘림
+        int target = Math.min(Math.max(expectedCapacity, 1), 1024);
+        while (capacity < target) {
+            capacity <<= 1;
+        }
+        elements = new Job[capacity];
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    void offerLast(Job job) {
+        if (count == elements.length) {
+            grow();
+        }
+        elements[(head + count) & (elements.length - 1)] = job;
+        count++;
+    }
+
+    Job pollFirst() {
+        if (count == 0) return null;
+
+        Job job = elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        count--;
+        return job;
+    }
+
+    Job peekFirst() {
+        return (count == 0) ? null : elements[head];
+    }
+
+    Job peekLast() {
+        return (count == 0) ? null : elements[(head + count - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * @param index 맨 앞 기준 0 기반 인덱스
+     * @return 범위를 벗어나면 null
+     */
+    Job get(int index) {
+        if (index < 0 || index >= count) return null;
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * from 부터 최대 n 개를 새 배열로 복사 (범위를 벗어난 부분은 제외)
+     */
+    Job[] copyRange(int from, int n) {
+        if (from < 0 || n <= 0 || from >= count) return new Job[0];
+
+        int length = Math.min(n, count - from);
+        Job[] copy = new Job[length];
+        int start = (head + from) & (elements.length - 1);
+        int firstLength = Math.min(length, elements.length - start);
+        System.arraycopy(elements, start, copy, 0, firstLength);
+        if (firstLength < length) {
+            // 배열 끝을 넘어 앞쪽으로 이어지는 부분
+            System.arraycopy(elements, 0, copy, firstLength, length - firstLength);
+        }
+        return copy;
+    }
+
+    void clear() {
+        if (count == 0) return;
+
+        int end = head + count;
+        if (end <= elements.length) {
+            Arrays.fill(elements, head, end, null);
+        } else {
+            Arrays.fill(elements, head, elements.length, null);
+            Arrays.fill(elements, 0, end - elements.length, null);
+        }
+        head = 0;
+        count = 0;
+    }
+
+    private void grow() {
+        if (elements.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("JobQueue capacity exceeded. (" + elements.length + ")");
+        }
+
+        // 새 배열에서는 맨 앞 요소를 0 번으로 옮겨 다시 정렬
+        Job[] newElements = new Job[elements.length << 1];
+        int firstLength = elements.length - head;
+        System.arraycopy(elements, head, newElements, 0, firstLength);
+        System.arraycopy(elements, 0, newElements, firstLength, head);
+        elements = newElements;
+        head = 0;
+    }
+
+}
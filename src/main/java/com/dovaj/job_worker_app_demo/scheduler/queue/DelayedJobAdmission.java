@@ -0,0 +1,161 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.HashedWheelTimer;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimeout;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : DelayedJobAdmission
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 지연 후 큐에 들어갈 작업의 핸들 클래스 (JobQueue.addJobInQueueDelayed 반환값)
+ * - 호출 쓰레드는 기다리지 않고, 지연이 끝나면 타이머 쓰레드가 비차단 추가(addJobInQueue)로 큐에 넣음
+ * - 그 전까지 소비자에게는 보이지 않으며 size( ) / 워터마크에도 포함되지 않음
+ * - 발화 시점에 큐가 가득 차 있으면 추가하지 않고 거절(rejected) 상태로 끝남
+ * - 상태 : 대기(pending) → 추가(admitted) / 거절(rejected), 대기 중에만 취소(cancelled) 가능
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public final class DelayedJobAdmission {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final Logger logger = LoggerFactory.getLogger(DelayedJobAdmission.class);
+
+    private static final int ST_PENDING = 0;
+    private static final int ST_ADMITTING = 1;
+    private static final int ST_ADMITTED = 2;
+    private static final int ST_REJECTED = 3;
+    private static final int ST_CANCELLED = 4;
+    private static final AtomicIntegerFieldUpdater<DelayedJobAdmission> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(DelayedJobAdmission.class, "state");
+
+    private final Job job;
+    private final long delayNanos;
+    private volatile JobTimeout timeout;
+
+    @SuppressWarnings("unused")
+    private volatile int state = ST_PENDING;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private DelayedJobAdmission(Job job, long delayNanos) {
+        this.job = job;
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * @param timer      발화에 사용할 타이머 (null 이면 공용 타이머)
+     * @param delayNanos 0 이하면 호출 쓰레드에서 바로 추가
+     */
+    static DelayedJobAdmission schedule(JobTimer timer, JobQueue jobQueue, Job job, long delayNanos) {
+        if (job == null) {
+            throw new NullPointerException("job must not be null.");
+        }
+
+        DelayedJobAdmission admission = new DelayedJobAdmission(job, Math.max(0L, delayNanos));
+        if (admission.delayNanos == 0) {
+            admission.admit(jobQueue);
+            return admission;
+        }
+
+        JobTimer admissionTimer = (timer != null) ? timer : getDefaultTimer();
+        admission.timeout = admissionTimer.schedule(() -> admission.admit(jobQueue), admission.delayNanos, 0, TimeUnit.NANOSECONDS);
+        return admission;
+    }
+
+    /**
+     * 타이머를 지정하지 않은 큐가 공유하는 타이머 (첫 지연 추가 시 ticker 쓰레드 시작)
+     */
+    public static JobTimer getDefaultTimer() {
+        return DefaultTimerHolder.DEFAULT_TIMER;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * 큐에 들어가기 전이면 취소
+     *
+     * @return 이번 호출로 취소되었으면 true (이미 추가/거절/취소된 경우 false)
+     */
+    public boolean cancel() {
+        if (!STATE_UPDATER.compareAndSet(this, ST_PENDING, ST_CANCELLED)) {
+            return false;
+        }
+
+        JobTimeout curTimeout = timeout;
+        if (curTimeout != null) {
+            curTimeout.cancel();
+        }
+        return true;
+    }
+
+    public boolean isPending() {
+        int curState = state;
+        return curState == ST_PENDING || curState == ST_ADMITTING;
+    }
+
+    public boolean isAdmitted() {
+        return state == ST_ADMITTED;
+    }
+
+    public boolean isRejected() {
+        return state == ST_REJECTED;
+    }
+
+    public boolean isCancelled() {
+        return state == ST_CANCELLED;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public long getDelayNanos() {
+        return delayNanos;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private void admit(JobQueue jobQueue) {
+        // 추가 도중 취소되지 않도록 먼저 상태를 선점
+        if (!STATE_UPDATER.compareAndSet(this, ST_PENDING, ST_ADMITTING)) {
+            return;
+        }
+
+        boolean isAdded = false;
+        try {
+            isAdded = jobQueue.addJobInQueue(job, 0);
+        } finally {
+            state = isAdded ? ST_ADMITTED : ST_REJECTED;
+        }
+
+        if (!isAdded) {
+            logger.warn("[DelayedJobAdmission] Fail to admit the job. Queue is full. (job={}, delayNanos={})", job.getName(), delayNanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DelayedJobAdmission{" +
+                "job=" + job.getName() +
+                ", delayNanos=" + delayNanos +
+                ", state=" + state +
+                '}';
+    }
+
+    private static final class DefaultTimerHolder {
+        private static final JobTimer DEFAULT_TIMER = new HashedWheelTimer("JobQueue_AdmissionTimer");
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
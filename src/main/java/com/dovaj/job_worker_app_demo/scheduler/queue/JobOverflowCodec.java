@@ -0,0 +1,25 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : JobOverflowCodec
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 넘침 영역(JobOverflowStore)에 작업을 기록 / 복원하는 직렬화 인터페이스
+ * - Job 은 Runnable 등 직렬화할 수 없는 필드를 가지므로, 작업을 다시 만들 수 있는 정보(이름, 설정, 업무 키 등)만 기록
+ * - decode 는 같은 작업을 다시 구성해 반환 (Runnable 은 업무 키 등으로 다시 연결)
+ * - 예외를 던지면 encode 는 추가 실패, decode 는 해당 기록을 건너뜀
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface JobOverflowCodec {
+
+    byte[] encode(Job job);
+
+    Job decode(byte[] bytes);
+
+}
@@ -0,0 +1,313 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : JobOverflowStore
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 워터마크를 넘은 작업을 디스크에 보관하는 넘침 영역 클래스 (JobQueueManager 전용)
+ * - 고정 크기 세그먼트 파일을 메모리 매핑하고 [길이(4 byte)][직렬화 데이터] 기록을 뒤에 이어 붙임 (append-only)
+ * - 앞쪽 세그먼트부터 FIFO 순서로 읽고, 다 읽은 세그먼트는 여유 목록에 두었다가 새 쓰기 세그먼트로 다시 사용
+ *   (burst 마다 파일 생성 / 매핑을 반복하지 않도록 함, 여유 목록이 가득 차면 파일 삭제)
+ * - 힙에는 세그먼트 목록과 위치 정보만 두므로, 수백만 개 규모의 burst 도 힙 사용량이 늘지 않음
+ * - 생성 시 전용 임시 디렉터리를 만들고 close( ) 에서 남은 파일과 함께 삭제 (재시작 후 복구하지 않음)
+ * <p>
+ * 동시성 주의사항
+ * - 동기화하지 않으므로 JobQueueManager 의 lock 을 잡은 상태에서만 사용
+ * - 매핑은 명시적으로 해제할 수 없어, 삭제한 세그먼트의 매핑은 GC 시점에 해제됨
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class JobOverflowStore implements Closeable {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final Logger logger = LoggerFactory.getLogger(JobOverflowStore.class);
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+    public static final int MAX_FREE_SEGMENT_COUNT = 2; // 다시 쓰려고 남겨 두는 빈 세그먼트 수
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES;
+
+    private final String name;
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegmentCount; // 0 이면 무제한
+    private final JobOverflowCodec codec;
+
+    // 첫 번째가 읽기 세그먼트, 마지막이 쓰기 세그먼트
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private final ArrayDeque<Segment> freeSegments = new ArrayDeque<>(); // 다 읽어서 비운 세그먼트 (파일과 매핑 유지)
+    private long lastSegmentIndex = 0;
+    private long recordCount = 0;
+    private long totalSpilledCount = 0;
+    private long totalRestoredCount = 0;
+    private long droppedCount = 0;
+    private boolean isClosed = false;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public JobOverflowStore(String name, Path baseDirectory, JobOverflowCodec codec) throws IOException {
+        this(name, baseDirectory, codec, DEFAULT_SEGMENT_BYTES, 0);
+    }
+
+    /**
+     * @param baseDirectory   세그먼트 파일을 둘 상위 디렉터리 (없으면 생성)
+     * @param segmentBytes    세그먼트 파일 하나의 크기 (기록 하나가 이 크기를 넘으면 추가 실패)
+     * @param maxSegmentCount 최대 세그먼트 수 (0 이하면 무제한, 가득 차면 추가 실패)
+     */
+    public JobOverflowStore(String name, Path baseDirectory, JobOverflowCodec codec, int segmentBytes, int maxSegmentCount) throws IOException {
+        if (codec == null) {
+            throw new NullPointerException("codec must not be null.");
+        }
+        if (segmentBytes <= RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("segmentBytes must be greater than " + RECORD_HEADER_BYTES + ". (" + segmentBytes + ")");
+        }
+
+        this.name = name;
+        this.codec = codec;
+        this.segmentBytes = segmentBytes;
+        this.maxSegmentCount = Math.max(0, maxSegmentCount);
+
+        Files.createDirectories(baseDirectory);
+        this.directory = Files.createTempDirectory(baseDirectory, name + "_");
+        logger.info("[JobOverflowStore({})] is created. (directory={}, segmentBytes={}, maxSegmentCount={})",
+                name, directory, segmentBytes, this.maxSegmentCount);
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * 작업을 맨 뒤에 기록
+     *
+     * @return 기록 성공 여부 (직렬화 실패, 기록이 세그먼트보다 큼, 최대 세그먼트 수 도달, 파일 오류 시 false)
+     */
+    public boolean append(Job job) {
+        if (isClosed || job == null) return false;
+
+        byte[] bytes;
+        try {
+            bytes = codec.encode(job);
+        } catch (Exception e) {
+            logger.warn("[JobOverflowStore({})] Fail to encode the job. (job={})", name, job.getName(), e);
+            return false;
+        }
+        if (bytes == null) return false;
+
+        int recordBytes = RECORD_HEADER_BYTES + bytes.length;
+        if (recordBytes > segmentBytes) {
+            logger.warn("[JobOverflowStore({})] Job is too large to spill. (job={}, bytes={}, segmentBytes={})",
+                    name, job.getName(), bytes.length, segmentBytes);
+            return false;
+        }
+
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.writePosition + recordBytes > segmentBytes) {
+            segment = newSegment();
+            if (segment == null) return false;
+        }
+
+        segment.buffer.putInt(segment.writePosition, bytes.length);
+        segment.buffer.put(segment.writePosition + RECORD_HEADER_BYTES, bytes);
+        segment.writePosition += recordBytes;
+        recordCount++;
+        totalSpilledCount++;
+        return true;
+    }
+
+    /**
+     * 맨 앞 작업을 꺼냄 (복원에 실패한 기록은 건너뜀)
+     *
+     * @return 복원한 Job, 비어 있으면 null
+     */
+    public Job poll() {
+        while (recordCount > 0) {
+            Segment segment = segments.peekFirst();
+            if (segment == null) {
+                return null;
+            }
+            if (segment.readPosition >= segment.writePosition) {
+                releaseReadSegment(segment);
+                continue;
+            }
+
+            int length = segment.buffer.getInt(segment.readPosition);
+            byte[] bytes = new byte[length];
+            segment.buffer.get(segment.readPosition + RECORD_HEADER_BYTES, bytes);
+            segment.readPosition += RECORD_HEADER_BYTES + length;
+            recordCount--;
+            if (segment.readPosition >= segment.writePosition) {
+                releaseReadSegment(segment);
+            }
+
+            try {
+                Job job = codec.decode(bytes);
+                if (job != null) {
+                    totalRestoredCount++;
+                    return job;
+                }
+            } catch (Exception e) {
+                logger.warn("[JobOverflowStore({})] Fail to decode the job. Skip the record. (bytes={})", name, length, e);
+            }
+            droppedCount++;
+        }
+        return null;
+    }
+
+    public long size() {
+        return recordCount;
+    }
+
+    public boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    /**
+     * 기록된 작업을 모두 버림 (여유 목록에 들어가지 못한 세그먼트 파일은 삭제)
+     */
+    public void clear() {
+        Segment segment;
+        while ((segment = segments.pollFirst()) != null) {
+            freeSegment(segment);
+        }
+        recordCount = 0;
+    }
+
+    /**
+     * 남은 작업을 버리고 디렉터리까지 삭제
+     */
+    @Override
+    public void close() {
+        if (isClosed) return;
+
+        isClosed = true;
+        clear();
+        Segment segment;
+        while ((segment = freeSegments.pollFirst()) != null) {
+            deleteSegment(segment);
+        }
+        try {
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            logger.warn("[JobOverflowStore({})] Fail to delete the directory. (directory={})", name, directory, e);
+        }
+        logger.info("[JobOverflowStore({})] is closed. (spilled={}, restored={}, dropped={})",
+                name, totalSpilledCount, totalRestoredCount, droppedCount);
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public int getFreeSegmentCount() {
+        return freeSegments.size();
+    }
+
+    public long getTotalSpilledCount() {
+        return totalSpilledCount;
+    }
+
+    public long getTotalRestoredCount() {
+        return totalRestoredCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private Segment newSegment() {
+        if (maxSegmentCount > 0 && segments.size() >= maxSegmentCount) {
+            return null;
+        }
+
+        Segment freeSegment = freeSegments.pollFirst();
+        if (freeSegment != null) {
+            segments.addLast(freeSegment);
+            return freeSegment;
+        }
+
+        Path path = directory.resolve(String.format("%016d.seg", ++lastSegmentIndex));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 채널을 닫아도 매핑은 유지됨
+            Segment segment = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes));
+            segments.addLast(segment);
+            return segment;
+        } catch (IOException e) {
+            logger.warn("[JobOverflowStore({})] Fail to create the segment. (path={})", name, path, e);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // 이미 생성 실패한 파일이므로 무시
+            }
+            return null;
+        }
+    }
+
+    private void releaseReadSegment(Segment segment) {
+        if (segments.size() == 1) {
+            // 쓰기 세그먼트이기도 하므로 삭제하지 않고 처음부터 다시 사용
+            segment.readPosition = 0;
+            segment.writePosition = 0;
+            return;
+        }
+        segments.pollFirst();
+        freeSegment(segment);
+    }
+
+    /**
+     * 비운 세그먼트를 여유 목록에 넣음 (가득 찼으면 삭제)
+     */
+    private void freeSegment(Segment segment) {
+        if (isClosed || freeSegments.size() >= MAX_FREE_SEGMENT_COUNT) {
+            deleteSegment(segment);
+            return;
+        }
+        segment.readPosition = 0;
+        segment.writePosition = 0;
+        freeSegments.addLast(segment);
+    }
+
+    private void deleteSegment(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            logger.warn("[JobOverflowStore({})] Fail to delete the segment. (path={})", name, segment.path, e);
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int writePosition = 0;
+        private int readPosition = 0;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
@@ -0,0 +1,215 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.JOB_QUEUE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : JobQueue
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : FIFO(선입선출) 작업 큐 인터페이스
+ * - 워터마크(임계치)를 최대 수용량으로 사용
+ * - top/last/get 은 boolean 만 반환하므로 마지막 조회 Job 은 getLastViewed( ) 로 획득
+ * - 구현: JobQueueManager (lock 기반), RingBufferJobQueueManager (lock-free 링 버퍼)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface JobQueue {
+
+    // ----------------------------------------------------------------------
+    // 추가(생산자) 계열
+    // ----------------------------------------------------------------------
+
+    /**
+     * 작업을 큐에 추가 (고정 지연 후 시도, 비차단)
+     * - 지연 동안 호출 쓰레드가 멈추므로, 요청 처리 쓰레드에서는 addJobInQueueDelayed 사용
+     *
+     * @return 삽입 성공 여부 (가득 찼으면 false)
+     */
+    boolean addJobInQueue(Job job, long delayMillis);
+
+    /**
+     * 작업을 큐에 추가 (minDelay ~ maxDelay 사이 랜덤 지연 후 시도, 비차단)
+     * - 지연 동안 호출 쓰레드가 멈추므로, 요청 처리 쓰레드에서는 addJobInQueueDelayed 사용
+     *
+     * @return 삽입 성공 여부 (가득 찼으면 false)
+     */
+    boolean addJobInQueue(Job job, long minDelay, long maxDelay);
+
+    /**
+     * 작업을 큐에 추가 (가득 찼으면 여유가 생길 때까지 대기)
+     *
+     * @param spinWaitMillis 가득 찼을 때 재확인 간격(ms). 0 이하면 무기한 대기
+     * @return 삽입 성공 여부 (인터럽트 시 false)
+     */
+    boolean addJobInQueueBlocking(Job job, long delayMillis, long spinWaitMillis);
+
+    /**
+     * 여러 작업을 입력 순서대로 추가 (비차단 일괄, 가득 차면 중단)
+     * - 대기 중인 소비자 알림은 추가한 묶음 단위로 한 번에 처리
+     *
+     * @return 하나라도 추가되면 true
+     */
+    boolean addJobsInQueue(List<Job> jobs);
+
+    /**
+     * 작업을 지연 추가 (호출 쓰레드는 기다리지 않음)
+     * - 지연이 끝나면 타이머 쓰레드가 비차단 추가로 큐에 넣으며, 그때 가득 차 있으면 거절됨
+     * - 지연이 0 이하면 호출 쓰레드에서 바로 추가
+     *
+     * @param job 추가할 작업 (null 불가)
+     * @return 결과 확인 / 취소용 핸들
+     */
+    default DelayedJobAdmission addJobInQueueDelayed(Job job, long delay, TimeUnit unit) {
+        return DelayedJobAdmission.schedule(getAdmissionTimer(), this, job, unit.toNanos(delay));
+    }
+
+    /**
+     * 작업을 지연 추가 (minDelay ~ maxDelay 사이 랜덤 지연, 호출 쓰레드는 기다리지 않음)
+     * - 음수는 0 으로, 구간이 뒤집혔으면 교환하여 보정
+     *
+     * @param job 추가할 작업 (null 불가)
+     * @return 결과 확인 / 취소용 핸들
+     */
+    default DelayedJobAdmission addJobInQueueDelayed(Job job, long minDelay, long maxDelay, TimeUnit unit) {
+        long min = Math.max(0L, minDelay);
+        long max = Math.max(0L, maxDelay);
+        if (min > max) {
+            long tmp = min;
+            min = max;
+            max = tmp;
+        }
+        long delayNanos = unit.toNanos(ThreadLocalRandom.current().nextLong(min, max + 1));
+        return DelayedJobAdmission.schedule(getAdmissionTimer(), this, job, delayNanos);
+    }
+
+    // ----------------------------------------------------------------------
+    // 조회(읽기) 계열
+    // ----------------------------------------------------------------------
+
+    boolean topJobInQueue();
+
+    boolean lastJobInQueue();
+
+    /**
+     * @param index 맨 앞(HEAD) 기준 0 기반 인덱스
+     */
+    boolean getJobInQueue(long index);
+
+    /**
+     * 모든 쓰레드가 공유하는 값이므로, 여러 쓰레드에서 조회한다면 peek 계열을 사용
+     *
+     * @return 직전 조회(top/last/get) 성공 시점의 Job, 조회 실패 직후에는 null
+     */
+    Job getLastViewed();
+
+    /**
+     * @return 맨 앞(HEAD) Job, 비어 있으면 Optional.empty() (lastViewed 를 바꾸지 않음)
+     */
+    Optional<Job> peekFirst();
+
+    /**
+     * @return 맨 뒤(TAIL) Job, 비어 있으면 Optional.empty() (lastViewed 를 바꾸지 않음)
+     */
+    Optional<Job> peekLast();
+
+    /**
+     * @param index 맨 앞(HEAD) 기준 0 기반 인덱스
+     * @return 해당 위치의 Job, 범위를 벗어나면 Optional.empty() (lastViewed 를 바꾸지 않음)
+     */
+    Optional<Job> peek(long index);
+
+    /**
+     * 맨 앞 기준 from 부터 최대 n 개의 스냅샷 (삭제하지 않음)
+     *
+     * @return 읽기 전용 목록, 범위를 벗어난 부분은 제외
+     */
+    List<Job> peekRange(long from, int n);
+
+    // ----------------------------------------------------------------------
+    // 삭제/반출(쓰기) 계열
+    // ----------------------------------------------------------------------
+
+    boolean deleteJobInQueue();
+
+    /**
+     * @return 실제로 비워졌다면 true, 이미 비어있었으면 false
+     */
+    boolean clearQueue();
+
+    /**
+     * @return 맨 앞에서 꺼낸 Job, 없으면 null
+     */
+    Job exportJobFromQueue();
+
+    /**
+     * 요소가 들어올 때까지 무기한 대기 후 반출
+     *
+     * @return 꺼낸 Job, 인터럽트 발생 시 null
+     */
+    Job exportJobFromQueueBlocking();
+
+    /**
+     * @param timeout 0 이하면 무기한 대기
+     * @return 꺼낸 Job, 타임아웃 시 null
+     */
+    Job exportJobFromQueueBlocking(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 맨 앞부터 최대 maxJobs 개를 한 번에 반출 (비차단)
+     * - 대기 중인 생산자 알림은 반출한 묶음 단위로 한 번에 처리
+     *
+     * @param target  반출한 Job 을 순서대로 담을 컬렉션
+     * @param maxJobs 최대 반출 수 (0 이하면 반출하지 않음)
+     * @return 반출한 Job 수
+     */
+    int drainTo(Collection<? super Job> target, int maxJobs);
+
+    /**
+     * 하나 이상 들어올 때까지 대기한 뒤, 그 시점에 있는 작업을 최대 maxJobs 개까지 한 번에 반출
+     *
+     * @param timeout 0 이하면 무기한 대기
+     * @return 반출한 Job 목록 (입력 순서), 타임아웃 시 빈 목록
+     */
+    List<Job> drainAtLeastOne(int maxJobs, long timeout, TimeUnit unit) throws InterruptedException;
+
+    // ----------------------------------------------------------------------
+    // 상태/보조
+    // ----------------------------------------------------------------------
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean isAboveWatermark();
+
+    /**
+     * @return 지연 추가에 사용하는 타이머 (null 이면 DelayedJobAdmission 공용 타이머)
+     */
+    JobTimer getAdmissionTimer();
+
+    static JobQueue of(JOB_QUEUE_TYPE jobQueueType, int watermark) {
+        return of(jobQueueType, watermark, null);
+    }
+
+    /**
+     * @param admissionTimer 지연 추가에 사용할 타이머 (null 이면 공용 타이머)
+     */
+    static JobQueue of(JOB_QUEUE_TYPE jobQueueType, int watermark, JobTimer admissionTimer) {
+        if (jobQueueType == JOB_QUEUE_TYPE.RING_BUFFER) {
+            return new RingBufferJobQueueManager(watermark, admissionTimer);
+        }
+        return new JobQueueManager(watermark, admissionTimer);
+    }
+
+}
@@ -1,10 +1,14 @@
 package com.dovaj.job_worker_app_demo.scheduler.queue;
 
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimer;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
@@ -17,7 +21,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * date           : 25. 9. 30.
  * description    :
  * - FIFO(선입선출) 방식의 작업 큐 관리자
- * - 내부 저장소는 단일 연결 리스트가 아닌 ArrayDeque(배열 기반 덱)를 사용
+ * - 내부 저장소는 임의 접근이 가능한 원형 배열(CircularJobArray)을 사용 (인덱스 조회 O(1))
  * - 스레드 안전 보장을 위해 ReentrantLock + Condition 조합 채택
  * - 워터마크(임계치)를 최대 수용량으로 사용(0이면 무제한)
  * <p>
@@ -25,7 +29,12 @@ import java.util.concurrent.locks.ReentrantLock;
  * - 비차단 추가 메서드: 큐가 워터마크 이상이면 즉시 false
  * - 차단 추가 메서드: 여유가 생길 때까지 await(효율 대기, 스핀락 지양)
  * - 삭제/반출/초기화 시 notFull.signal*( ) 호출로 대기 중 생산자 깨움
+ * - 일괄 추가/반출(addJobsInQueue, drainTo, drainAtLeastOne)은 락 한 번에 묶음을 처리하고,
+ *   대기 중인 쓰레드 수만큼만 깨워 묶음 하나에 알림을 한 번으로 합침
  * - top/last/get은 boolean만 반환하므로 마지막 조회 Job은 getLastViewed( )로 획득
+ * - peek 계열은 조회 결과를 바로 반환하므로 쓰레드 간 공유 상태(lastViewed)를 거치지 않음
+ * - 넘침 영역(JobOverflowStore)을 지정하면 워터마크를 넘은 작업은 거절/대기 대신 디스크에 기록하고,
+ *   반출로 자리가 날 때마다 FIFO 순서대로 메모리에 다시 올림 (넘친 작업이 있는 동안 메모리 부분은 항상 가득 참)
  * <p>
  * 동시성/정확성 주의사항
  * - Condition.await( )는 spurious wakeup이 가능하므로 반드시 while 조건 재검사 필요
@@ -34,12 +43,12 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 
 // FIFO Queue 방식
-public class JobQueueManager {
+public class JobQueueManager implements JobQueue {
 
     /**
-     * 실제 작업이 저장되는 큐 (배열 기반, null 요소 비허용)
+     * 실제 작업이 저장되는 큐 (원형 배열 기반, null 요소 비허용)
      */
-    private final Deque<Job> queue = new ArrayDeque<>();
+    private final CircularJobArray queue;
 
     /**
      * 상호배제를 위한 재진입 락
@@ -59,6 +68,19 @@ public class JobQueueManager {
      * 워터마크 기준치 (0이면 무제한으로 간주)
      */
     private final int watermark;
+    /**
+     * 지연 추가에 사용하는 타이머 (null 이면 공용 타이머)
+     */
+    private final JobTimer admissionTimer;
+    /**
+     * 워터마크를 넘은 작업을 보관하는 넘침 영역 (null 이면 사용 안 함, lock 으로 보호)
+     */
+    private final JobOverflowStore overflowStore;
+    /**
+     * 조건 변수에서 대기 중인 생산자 / 소비자 수 (lock 으로 보호, 일괄 처리 시 깨울 수 산정용)
+     */
+    private int waitingProducerCount = 0;
+    private int waitingConsumerCount = 0;
     /**
      * 최근 조회 성공 시 보관되는 Job (top/last/get 호출 시 설정됨)
      */
@@ -71,10 +93,39 @@ public class JobQueueManager {
      * @throws IllegalArgumentException watermark가 음수인 경우
      */
     public JobQueueManager(int watermark) {
+        this(watermark, null);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param watermark      큐 최대 수용량(임계치). 0이면 무제한
+     * @param admissionTimer 지연 추가(addJobInQueueDelayed)에 사용할 타이머 (null 이면 공용 타이머)
+     * @throws IllegalArgumentException watermark가 음수인 경우
+     */
+    public JobQueueManager(int watermark, JobTimer admissionTimer) {
+        this(watermark, admissionTimer, null);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param watermark      큐 최대 수용량(임계치). 넘침 영역을 쓰려면 0 보다 커야 함
+     * @param admissionTimer 지연 추가(addJobInQueueDelayed)에 사용할 타이머 (null 이면 공용 타이머)
+     * @param overflowStore  워터마크를 넘은 작업을 보관할 넘침 영역 (null 이면 사용 안 함, 닫는 것은 호출 측 책임)
+     * @throws IllegalArgumentException watermark가 음수이거나, 넘침 영역을 쓰는데 워터마크가 0인 경우
+     */
+    public JobQueueManager(int watermark, JobTimer admissionTimer, JobOverflowStore overflowStore) {
         if (watermark < 0) {
             throw new IllegalArgumentException("워터마크는 음수일 수 없습니다.");
         }
+        if (overflowStore != null && watermark == 0) {
+            throw new IllegalArgumentException("넘침 영역을 사용하려면 워터마크가 0보다 커야 합니다.");
+        }
         this.watermark = watermark;
+        this.admissionTimer = admissionTimer;
+        this.overflowStore = overflowStore;
+        this.queue = new CircularJobArray(watermark);
     }
 
     // ----------------------------------------------------------------------
@@ -90,6 +141,7 @@ public class JobQueueManager {
      * @param delayMillis 추가 전 대기할 밀리초(0 이하면 즉시 시도)
      * @return 삽입 성공 여부
      */
+    @Override
     public boolean addJobInQueue(Job job, long delayMillis) {
         if (job == null) return false;
 
@@ -103,15 +155,17 @@ public class JobQueueManager {
 
         lock.lock();
         try {
+            // 넘침 영역을 쓰는 중이면 FIFO 유지를 위해 그 뒤에 기록
+            if (isSpilling()) return overflowStore.append(job);
+
             // 워터마크가 설정되어 있고 가득 차면 비차단 정책에 따라 즉시 실패
             if (watermark > 0 && queue.size() >= watermark) return false;
 
-            // ArrayDeque.offerLast는 용량 제한이 없으므로 항상 true 반환
-            boolean ok = queue.offerLast(job);
+            queue.offerLast(job);
 
             // 소비자(반출 대기 중)가 있을 수 있으므로 알림 (필수는 아님)
-            if (ok) notEmpty.signal();
-            return ok;
+            notEmpty.signal();
+            return true;
         } finally {
             lock.unlock();
         }
@@ -128,6 +182,7 @@ public class JobQueueManager {
      * @param maxDelay 최대 지연(ms)
      * @return 삽입 성공 여부
      */
+    @Override
     public boolean addJobInQueue(Job job, long minDelay, long maxDelay) {
         if (job == null) return false;
 
@@ -152,10 +207,11 @@ public class JobQueueManager {
 
         lock.lock();
         try {
+            if (isSpilling()) return overflowStore.append(job);
             if (watermark > 0 && queue.size() >= watermark) return false;
-            boolean ok = queue.offerLast(job);
-            if (ok) notEmpty.signal();
-            return ok;
+            queue.offerLast(job);
+            notEmpty.signal();
+            return true;
         } finally {
             lock.unlock();
         }
@@ -173,6 +229,7 @@ public class JobQueueManager {
      * @param spinWaitMillis 큐가 가득 찼을 때 대기 간격(ms). 0 이하면 무기한 대기
      * @return 삽입 성공 여부
      */
+    @Override
     public boolean addJobInQueueBlocking(Job job, long delayMillis, long spinWaitMillis) {
         if (job == null) return false;
 
@@ -188,11 +245,15 @@ public class JobQueueManager {
         try {
             // 무제한 모드: 대기 없이 즉시 삽입
             if (watermark == 0) {
-                boolean ok = queue.offerLast(job);
-                if (ok) notEmpty.signal();
-                return ok;
+                queue.offerLast(job);
+                notEmpty.signal();
+                return true;
             }
 
+            // 넘침 영역에 기록할 수 있으면 대기하지 않음 (영역이 가득 찼으면 메모리에 자리가 날 때까지 대기)
+            if (isSpilling() && overflowStore.append(job)) return true;
+
+            waitingProducerCount++;
             try {
                 if (spinWaitMillis <= 0) {
                     // 무기한 대기: 큐에 여유가 생길 때까지 대기
@@ -210,12 +271,14 @@ public class JobQueueManager {
             } catch (InterruptedException ie) {
                 Thread.currentThread().interrupt();
                 return false;
+            } finally {
+                waitingProducerCount--;
             }
 
             // 여유 확보 후 삽입
-            boolean ok = queue.offerLast(job);
-            if (ok) notEmpty.signal();
-            return ok;
+            queue.offerLast(job);
+            notEmpty.signal();
+            return true;
         } finally {
             lock.unlock();
         }
@@ -224,32 +287,41 @@ public class JobQueueManager {
     /**
      * 여러 작업을 입력 순서대로 큐에 추가 (비차단 일괄)
      * - null 항목은 무시
-     * - 워터마크(>0) 도달 시 추가 중단
-     * - 하나라도 추가되면 true
+     * - 워터마크(>0) 도달 시 추가 중단 (넘침 영역을 쓰면 그 뒤에 기록하고, 영역이 거절하면 중단)
+     * - 하나라도 추가되면 true (넘침 영역에 기록된 작업 포함)
      *
      * @param jobs 추가할 작업 목록
      * @return 하나라도 추가되면 true, 아니면 false
      */
+    @Override
     public boolean addJobsInQueue(List<Job> jobs) {
         if (jobs == null || jobs.isEmpty()) return false;
 
         lock.lock();
         try {
-            boolean added = false;
+            int addedCount = 0;
+            int spilledCount = 0;
 
             for (Job job : jobs) {
                 if (job == null) continue;
 
+                // 넘침 영역에 기록한 작업도 받아들인 것이므로 추가로 집계
+                if (isSpilling()) {
+                    if (!overflowStore.append(job)) break;
+                    spilledCount++;
+                    continue;
+                }
+
                 // 워터마크가 설정되어 있고 가득 찼다면 더 이상 추가하지 않음
                 if (watermark > 0 && queue.size() >= watermark) break;
 
                 queue.offerLast(job);
-                added = true;
+                addedCount++;
             }
 
-            // 일부라도 추가되었다면 소비자 깨움
-            if (added) notEmpty.signalAll();
-            return added;
+            // 메모리에 추가한 수만큼만 소비자 깨움 (묶음당 한 번)
+            signalConsumers(addedCount);
+            return addedCount + spilledCount > 0;
         } finally {
             lock.unlock();
         }
@@ -265,6 +337,7 @@ public class JobQueueManager {
      *
      * @return 요소가 있으면 true, 없으면 false
      */
+    @Override
     public boolean topJobInQueue() {
         lock.lock();
         try {
@@ -281,6 +354,7 @@ public class JobQueueManager {
      *
      * @return 요소가 있으면 true, 없으면 false
      */
+    @Override
     public boolean lastJobInQueue() {
         lock.lock();
         try {
@@ -293,33 +367,96 @@ public class JobQueueManager {
 
     /**
      * 0 기반 인덱스로 요소를 조회 (삭제하지 않음)
-     * - ArrayDeque는 인덱스 접근이 O(1)이 아니므로 선형 탐색
+     * - 원형 배열 위치를 바로 계산하므로 O(1)
      * - 성공 시 마지막 조회 값(lastViewed)에 보관
      *
      * @param index 0 이상 정수 (int 범위 초과 불가)
      * @return 요소가 있으면 true, 없으면 false
      */
+    @Override
     public boolean getJobInQueue(long index) {
         if (index < 0 || index > Integer.MAX_VALUE) return false;
 
         lock.lock();
         try {
-            int i = 0;
-            for (Job j : queue) {
-                if (i == (int) index) {
-                    lastViewed = j;
-                    return true;
-                }
-                i++;
-            }
             // 범위를 벗어난 경우 null로 초기화
-            lastViewed = null;
-            return false;
+            lastViewed = queue.get((int) index);
+            return lastViewed != null;
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * 큐의 맨 앞(HEAD)을 조회 (삭제하지 않음, lastViewed 를 바꾸지 않음)
+     *
+     * @return 맨 앞 Job, 비어 있으면 Optional.empty()
+     */
+    @Override
+    public Optional<Job> peekFirst() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(queue.peekFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 큐의 맨 뒤(TAIL)를 조회 (삭제하지 않음, lastViewed 를 바꾸지 않음)
+     *
+     * @return 맨 뒤 Job, 비어 있으면 Optional.empty()
+     */
+    @Override
+    public Optional<Job> peekLast() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(queue.peekLast());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 0 기반 인덱스로 요소를 조회 (삭제하지 않음, lastViewed 를 바꾸지 않음, O(1))
+     *
+     * @param index 0 이상 정수 (int 범위 초과 불가)
+     * @return 해당 위치의 Job, 범위를 벗어나면 Optional.empty()
+     */
+    @Override
+    public Optional<Job> peek(long index) {
+        if (index < 0 || index > Integer.MAX_VALUE) return Optional.empty();
+
+        lock.lock();
+        try {
+            return Optional.ofNullable(queue.get((int) index));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * from 부터 최대 n 개의 스냅샷 (삭제하지 않음)
+     * - 락 안에서는 배열 복사(끝을 넘어 이어지면 두 번)만 수행
+     *
+     * @param from 0 기반 시작 인덱스
+     * @param n    최대 개수
+     * @return 읽기 전용 목록 (범위를 벗어난 부분은 제외되며, 없으면 빈 목록)
+     */
+    @Override
+    public List<Job> peekRange(long from, int n) {
+        if (from < 0 || from > Integer.MAX_VALUE || n <= 0) return Collections.emptyList();
+
+        Job[] snapshot;
+        lock.lock();
+        try {
+            snapshot = queue.copyRange((int) from, n);
+        } finally {
+            lock.unlock();
+        }
+        return Collections.unmodifiableList(Arrays.asList(snapshot));
+    }
+
     /**
      * 직전 조회(top/last/get) 성공 시점의 Job 반환
      * - 조회 실패 직후에는 null
@@ -327,6 +464,7 @@ public class JobQueueManager {
      *
      * @return 마지막 조회 성공한 Job 또는 null
      */
+    @Override
     public Job getLastViewed() {
         lock.lock();
         try {
@@ -346,10 +484,11 @@ public class JobQueueManager {
      *
      * @return 삭제 성공 여부
      */
+    @Override
     public boolean deleteJobInQueue() {
         lock.lock();
         try {
-            boolean removed = (queue.pollFirst() != null);
+            boolean removed = (pollFirst() != null);
             if (removed) {
                 // 여유가 생겼으니 생산자(추가 대기 중) 하나를 깨움
                 notFull.signal();
@@ -367,12 +506,14 @@ public class JobQueueManager {
      *
      * @return 초기화로 인해 실제로 비워졌다면 true, 이미 비어있었으면 false
      */
+    @Override
     public boolean clearQueue() {
         lock.lock();
         try {
             if (queue.isEmpty()) return false;
 
             queue.clear();
+            if (overflowStore != null) overflowStore.clear();
             lastViewed = null;
 
             // 여유가 크게 생겼으므로 대기 중 생산자 전부 깨움
@@ -389,10 +530,11 @@ public class JobQueueManager {
      *
      * @return 제거된 Job, 없으면 null
      */
+    @Override
     public Job exportJobFromQueue() {
         lock.lock();
         try {
-            Job j = queue.pollFirst();
+            Job j = pollFirst();
             if (j != null) {
                 // 여유 발생 알림
                 notFull.signal();
@@ -411,6 +553,7 @@ public class JobQueueManager {
      *
      * @return 꺼낸 Job, 인터럽트 발생 시 null
      */
+    @Override
     public Job exportJobFromQueueBlocking() {
         try {
             return exportJobFromQueueBlocking(0, TimeUnit.MILLISECONDS);
@@ -435,28 +578,20 @@ public class JobQueueManager {
      * @return 꺼낸 Job, 타임아웃 시 null
      * @throws InterruptedException 대기 중 인터럽트되면 발생
      */
+    @Override
     public Job exportJobFromQueueBlocking(long timeout, TimeUnit unit) throws InterruptedException {
         long nanos = (timeout <= 0) ? Long.MAX_VALUE : unit.toNanos(timeout);
 
         // 인터럽트 대응을 위해 lockInterruptibly 사용
         lock.lockInterruptibly();
         try {
-            // 큐가 비어 있으면 notEmpty에서 대기
-            while (queue.isEmpty()) {
-                if (nanos == Long.MAX_VALUE) {
-                    // 무기한 대기
-                    notEmpty.await(); // spurious wakeup 대비 while 루프
-                } else {
-                    if (nanos <= 0) {
-                        // 타임아웃
-                        return null;
-                    }
-                    nanos = notEmpty.awaitNanos(nanos); // 깨어나면 남은 시간으로 재대기
-                }
+            // 큐가 비어 있으면 notEmpty에서 대기 (타임아웃 시 null)
+            if (!awaitNotEmpty(nanos)) {
+                return null;
             }
 
             // 여기까지 왔다는 것은 큐가 비어있지 않음 → 안전하게 poll
-            Job j = queue.pollFirst();
+            Job j = pollFirst();
 
             // 요소를 하나 빼냈으니 생산자(추가 대기) 깨우기
             notFull.signal();
@@ -467,6 +602,65 @@ public class JobQueueManager {
         }
     }
 
+    /**
+     * 맨 앞부터 최대 maxJobs 개를 락 한 번에 반출 (비차단)
+     * - 반출한 수만큼만 대기 중 생산자를 깨움 (묶음당 알림 한 번)
+     *
+     * @param target  반출한 Job 을 순서대로 담을 컬렉션
+     * @param maxJobs 최대 반출 수 (0 이하면 반출하지 않음)
+     * @return 반출한 Job 수
+     */
+    @Override
+    public int drainTo(Collection<? super Job> target, int maxJobs) {
+        if (target == null) throw new NullPointerException("target must not be null.");
+        if (maxJobs <= 0) return 0;
+
+        lock.lock();
+        try {
+            return drain(target, maxJobs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 하나 이상 들어올 때까지 대기한 뒤 최대 maxJobs 개를 락 한 번에 반출 (블로킹)
+     * - timeout <= 0 이면 무기한 대기
+     * - 반출 후에도 남은 작업이 있고 다른 소비자가 대기 중이면 이어서 하나를 깨움
+     * <p>
+     * 사용 예)
+     * List<Job> jobs = queue.drainAtLeastOne(64, 500, TimeUnit.MILLISECONDS); // 500ms 내에 없으면 빈 목록
+     *
+     * @param maxJobs 최대 반출 수 (0 이하면 빈 목록)
+     * @param timeout 최대 대기 시간
+     * @param unit    시간 단위
+     * @return 반출한 Job 목록 (입력 순서), 타임아웃 시 빈 목록
+     * @throws InterruptedException 대기 중 인터럽트되면 발생
+     */
+    @Override
+    public List<Job> drainAtLeastOne(int maxJobs, long timeout, TimeUnit unit) throws InterruptedException {
+        if (maxJobs <= 0) return new ArrayList<>(0);
+        long nanos = (timeout <= 0) ? Long.MAX_VALUE : unit.toNanos(timeout);
+
+        lock.lockInterruptibly();
+        try {
+            if (!awaitNotEmpty(nanos)) {
+                return new ArrayList<>(0);
+            }
+
+            List<Job> jobs = new ArrayList<>(Math.min(maxJobs, queue.size()));
+            drain(jobs, maxJobs);
+
+            // 남은 작업은 다른 대기 소비자가 이어서 가져가도록 전달
+            if (!queue.isEmpty() && waitingConsumerCount > 0) {
+                notEmpty.signal();
+            }
+            return jobs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     // ----------------------------------------------------------------------
     // 상태/보조
     // ----------------------------------------------------------------------
@@ -474,13 +668,30 @@ public class JobQueueManager {
     /**
      * 현재 큐 크기 반환
      * - 락으로 보호하여 일관된 값을 제공
+     * - 넘침 영역에 기록된 작업도 포함 (int 범위를 넘으면 Integer.MAX_VALUE)
      *
      * @return 현재 요소 수
      */
+    @Override
     public int size() {
         lock.lock();
         try {
-            return queue.size();
+            long overflowCount = (overflowStore != null) ? overflowStore.size() : 0;
+            return (int) Math.min(Integer.MAX_VALUE, queue.size() + overflowCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 넘침 영역에 기록되어 아직 메모리로 올라오지 않은 작업 수
+     *
+     * @return 넘침 영역을 쓰지 않으면 0
+     */
+    public long getOverflowCount() {
+        lock.lock();
+        try {
+            return (overflowStore != null) ? overflowStore.size() : 0;
         } finally {
             lock.unlock();
         }
@@ -491,6 +702,7 @@ public class JobQueueManager {
      *
      * @return 비었으면 true
      */
+    @Override
     public boolean isEmpty() {
         return size() == 0;
     }
@@ -501,6 +713,7 @@ public class JobQueueManager {
      *
      * @return 큐 크기 >= 워터마크이면 true
      */
+    @Override
     public boolean isAboveWatermark() {
         lock.lock();
         try {
@@ -509,4 +722,102 @@ public class JobQueueManager {
             lock.unlock();
         }
     }
+
+    @Override
+    public JobTimer getAdmissionTimer() {
+        return admissionTimer;
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부 구현 (lock 을 잡은 상태에서 호출)
+    // ----------------------------------------------------------------------
+
+    /**
+     * 넘침 영역에 기록해야 하는 상태인지 여부 (메모리가 가득 찼거나 이미 넘친 작업이 있음)
+     */
+    private boolean isSpilling() {
+        return overflowStore != null && (!overflowStore.isEmpty() || queue.size() >= watermark);
+    }
+
+    /**
+     * 맨 앞을 꺼내고, 넘친 작업이 있으면 빈 자리만큼 메모리로 다시 올림
+     */
+    private Job pollFirst() {
+        Job job = queue.pollFirst();
+        if (job != null && overflowStore != null && !overflowStore.isEmpty()) {
+            Job restoredJob;
+            while (queue.size() < watermark && (restoredJob = overflowStore.poll()) != null) {
+                queue.offerLast(restoredJob);
+            }
+        }
+        return job;
+    }
+
+    /**
+     * 큐가 비어 있으면 notEmpty 에서 대기
+     *
+     * @param nanos 최대 대기 시간 (Long.MAX_VALUE 면 무기한)
+     * @return 요소가 있으면 true, 타임아웃이면 false
+     */
+    private boolean awaitNotEmpty(long nanos) throws InterruptedException {
+        if (!queue.isEmpty()) return true;
+
+        waitingConsumerCount++;
+        try {
+            while (queue.isEmpty()) {
+                if (nanos == Long.MAX_VALUE) {
+                    // 무기한 대기
+                    notEmpty.await(); // spurious wakeup 대비 while 루프
+                } else {
+                    if (nanos <= 0) {
+                        // 타임아웃
+                        return false;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos); // 깨어나면 남은 시간으로 재대기
+                }
+            }
+            return true;
+        } finally {
+            waitingConsumerCount--;
+        }
+    }
+
+    private int drain(Collection<? super Job> target, int maxJobs) {
+        int drainedCount = 0;
+        Job job;
+        while (drainedCount < maxJobs && (job = pollFirst()) != null) {
+            target.add(job);
+            drainedCount++;
+        }
+        signalProducers(drainedCount);
+        return drainedCount;
+    }
+
+    /**
+     * count 개가 추가되었을 때 대기 중 소비자 깨움 (대기 수 이상이면 signalAll 한 번)
+     */
+    private void signalConsumers(int count) {
+        if (count <= 0 || waitingConsumerCount == 0) return;
+        if (count >= waitingConsumerCount) {
+            notEmpty.signalAll();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            notEmpty.signal();
+        }
+    }
+
+    /**
+     * count 개가 빠졌을 때 대기 중 생산자 깨움 (대기 수 이상이면 signalAll 한 번)
+     */
+    private void signalProducers(int count) {
+        if (count <= 0 || waitingProducerCount == 0) return;
+        if (count >= waitingProducerCount) {
+            notFull.signalAll();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            notFull.signal();
+        }
+    }
 }
\ No newline at end of file
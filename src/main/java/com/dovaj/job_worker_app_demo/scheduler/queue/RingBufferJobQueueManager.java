@@ -0,0 +1,815 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : RingBufferJobQueueManager
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    :
+ * - FIFO(선입선출) 방식의 작업 큐 관리자 (JobQueueManager 와 같은 API)
+ * - 내부 저장소는 미리 할당한 2의 거듭제곱 크기 링 + 슬롯별 sequence 번호 (bounded MPMC)
+ * - 워터마크(임계치)를 최대 수용량으로 사용 (0 은 허용하지 않음)
+ * <p>
+ * 주요 특징
+ * - 추가/반출의 빠른 경로는 lock 없이 CAS 한 번 (생산자는 tail, 소비자는 head 만 경합)
+ * - 슬롯의 sequence 가 "추가 가능(pos)" / "반출 가능(pos + 1)" 상태를 나타내므로 별도 크기 카운터가 없음
+ * - 큐가 가득 찼거나 비어 있을 때만 차단 메서드가 lock + Condition 에서 대기
+ * - 대기 중인 쓰레드가 없으면 추가/반출 시 lock 을 잡지 않음
+ * - 일괄 추가/반출은 묶음을 모두 처리한 뒤 대기 쓰레드 알림을 한 번에 처리
+ * <p>
+ * 동시성/정확성 주의사항
+ * - 생산자가 슬롯을 차지한 뒤 내용을 공개하기 전이면 반출 / 조회에서 아직 없는 것으로 보일 수 있음
+ * - size( ) 는 호출 시점의 근사치 (차지했지만 공개 전인 슬롯 포함)
+ * - top/last/get 은 lock 없이 읽으므로, 반환 직후 다른 쓰레드가 해당 Job 을 반출했을 수 있음
+ */
+
+// FIFO Queue 방식 (lock-free 링 버퍼)
+public class RingBufferJobQueueManager implements JobQueue {
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * 워터마크 기준치 (논리 용량, 링 크기 이하)
+     */
+    private final int watermark;
+
+    /**
+     * 지연 추가에 사용하는 타이머 (null 이면 공용 타이머)
+     */
+    private final JobTimer admissionTimer;
+
+    /**
+     * 링 인덱스 마스크 (링 크기 - 1)
+     */
+    private final int mask;
+
+    /**
+     * 슬롯별 sequence 번호
+     * - pos      : 위치 pos 로 추가 가능 (비어 있음)
+     * - pos + 1  : 위치 pos 의 작업이 공개되어 반출 가능
+     * - 반출 후 pos + 링 크기 로 바꿔 다음 바퀴의 추가를 허용
+     */
+    private final long[] sequences;
+
+    /**
+     * 실제 작업이 저장되는 슬롯
+     */
+    private final Job[] slots;
+
+    /**
+     * 다음 반출 위치 / 다음 추가 위치 (서로 다른 캐시 라인에 두어 생산자-소비자 간 false sharing 방지)
+     */
+    private final PaddedPosition head = new PaddedPosition();
+    private final PaddedPosition tail = new PaddedPosition();
+
+    /**
+     * 느린 경로(가득 참 / 비어 있음) 대기용 lock 과 조건 변수
+     */
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition notFull = waitLock.newCondition();
+    private final Condition notEmpty = waitLock.newCondition();
+
+    /**
+     * 대기 중인 생산자 / 소비자 수 (waitLock 을 잡고 변경, 빠른 경로에서는 읽기만 함)
+     */
+    private volatile int waitingProducerCount = 0;
+    private volatile int waitingConsumerCount = 0;
+
+    /**
+     * 최근 조회 성공 시 보관되는 Job (top/last/get 호출 시 설정됨)
+     */
+    private volatile Job lastViewed;
+
+    /**
+     * 생성자
+     *
+     * @param watermark 큐 최대 수용량(임계치). 링 크기는 이 값 이상의 2의 거듭제곱
+     * @throws IllegalArgumentException watermark가 0 이하이거나 최대 용량(2^30)을 넘는 경우
+     */
+    public RingBufferJobQueueManager(int watermark) {
+        this(watermark, null);
+    }
+
+    /**
+     * 생성자
+     *
+     * @param watermark      큐 최대 수용량(임계치)
+     * @param admissionTimer 지연 추가(addJobInQueueDelayed)에 사용할 타이머 (null 이면 공용 타이머)
+     * @throws IllegalArgumentException watermark가 0 이하이거나 최대 용량(2^30)을 넘는 경우
+     */
+    public RingBufferJobQueueManager(int watermark, JobTimer admissionTimer) {
+        if (watermark <= 0 || watermark > MAX_CAPACITY) {
+            throw new IllegalArgumentException("링 버퍼 큐의 워터마크는 1 이상 " + MAX_CAPACITY + " 이하여야 합니다. (" + watermark + ")");
+        }
+        this.watermark = watermark;
+        this.admissionTimer = admissionTimer;
+
+        int ringSize = (watermark == 1) ? 1 : Integer.highestOneBit(watermark - 1) << 1;
+        this.mask = ringSize - 1;
+        this.sequences = new long[ringSize];
+        this.slots = new Job[ringSize];
+        for (int i = 0; i < ringSize; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // 추가(생산자) 계열
+    // ----------------------------------------------------------------------
+
+    /**
+     * 작업을 큐에 추가 (고정 지연 후 시도, 비차단)
+     * - 워터마크 이상이면 즉시 false
+     *
+     * @param job         추가할 작업 (null이면 false)
+     * @param delayMillis 추가 전 대기할 밀리초(0 이하면 즉시 시도)
+     * @return 삽입 성공 여부
+     */
+    @Override
+    public boolean addJobInQueue(Job job, long delayMillis) {
+        if (job == null) return false;
+
+        try {
+            if (delayMillis > 0) Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return offerAndSignal(job);
+    }
+
+    /**
+     * 작업을 큐에 추가 (랜덤 지연 후 시도, 비차단)
+     * - 지연 구간 보정 방식은 JobQueueManager 와 같음
+     *
+     * @param job      추가할 작업 (null이면 false)
+     * @param minDelay 최소 지연(ms)
+     * @param maxDelay 최대 지연(ms)
+     * @return 삽입 성공 여부
+     */
+    @Override
+    public boolean addJobInQueue(Job job, long minDelay, long maxDelay) {
+        if (job == null) return false;
+
+        long min = Math.max(0L, minDelay);
+        long max = Math.max(0L, maxDelay);
+        if (min > max) {
+            long tmp = min;
+            min = max;
+            max = tmp;
+        }
+        long delay = ThreadLocalRandom.current().nextLong(min, max + 1);
+
+        try {
+            if (delay > 0) Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return offerAndSignal(job);
+    }
+
+    /**
+     * 작업을 큐에 추가 (차단형 + 지연 지원)
+     * - 가득 찼으면 반출로 여유가 생길 때까지 notFull 에서 대기
+     * - spinWaitMillis <= 0 : 무기한 대기
+     * - spinWaitMillis  > 0 : 해당 간격으로 타임드 대기/재확인
+     *
+     * @param job            추가할 Job (null이면 false)
+     * @param delayMillis    삽입 전 대기(ms). 0 이하면 바로 시도
+     * @param spinWaitMillis 큐가 가득 찼을 때 대기 간격(ms). 0 이하면 무기한 대기
+     * @return 삽입 성공 여부
+     */
+    @Override
+    public boolean addJobInQueueBlocking(Job job, long delayMillis, long spinWaitMillis) {
+        if (job == null) return false;
+
+        try {
+            if (delayMillis > 0) Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        // 빠른 경로: 여유가 있으면 lock 없이 추가
+        if (offerAndSignal(job)) return true;
+
+        waitLock.lock();
+        try {
+            waitingProducerCount++;
+            try {
+                long spinWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, spinWaitMillis));
+                for (; ; ) {
+                    // 대기 수 공개 후 재확인해야 반출 쪽 알림과 엇갈리지 않음
+                    VarHandle.fullFence();
+                    if (offer(job)) break;
+
+                    if (spinWaitNanos <= 0) {
+                        notFull.await();
+                    } else {
+                        notFull.awaitNanos(spinWaitNanos);
+                    }
+                }
+            } finally {
+                waitingProducerCount--;
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitLock.unlock();
+        }
+
+        signalConsumer();
+        return true;
+    }
+
+    /**
+     * 여러 작업을 입력 순서대로 큐에 추가 (비차단 일괄)
+     * - null 항목은 무시
+     * - 가득 차면 추가 중단
+     *
+     * @param jobs 추가할 작업 목록
+     * @return 하나라도 추가되면 true, 아니면 false
+     */
+    @Override
+    public boolean addJobsInQueue(List<Job> jobs) {
+        if (jobs == null || jobs.isEmpty()) return false;
+
+        int addedCount = 0;
+        for (Job job : jobs) {
+            if (job == null) continue;
+            if (!offer(job)) break;
+            addedCount++;
+        }
+
+        // 일부라도 추가되었다면 추가한 수만큼만 소비자 깨움 (묶음당 한 번)
+        signalConsumers(addedCount);
+        return addedCount > 0;
+    }
+
+    // ----------------------------------------------------------------------
+    // 조회(읽기) 계열
+    // ----------------------------------------------------------------------
+
+    /**
+     * 큐의 맨 앞(HEAD)을 조회 (삭제하지 않음)
+     *
+     * @return 요소가 있으면 true, 없으면 false
+     */
+    @Override
+    public boolean topJobInQueue() {
+        return getJobInQueue(0);
+    }
+
+    /**
+     * 큐의 맨 뒤(TAIL)를 조회 (삭제하지 않음)
+     *
+     * @return 요소가 있으면 true, 없으면 false
+     */
+    @Override
+    public boolean lastJobInQueue() {
+        lastViewed = readLast();
+        return lastViewed != null;
+    }
+
+    /**
+     * 0 기반 인덱스로 요소를 조회 (삭제하지 않음)
+     * - 링 위치를 바로 계산하므로 O(1)
+     *
+     * @param index 0 이상 정수 (int 범위 초과 불가)
+     * @return 요소가 있으면 true, 없으면 false
+     */
+    @Override
+    public boolean getJobInQueue(long index) {
+        if (index < 0 || index > Integer.MAX_VALUE) return false;
+
+        lastViewed = readAt(index);
+        return lastViewed != null;
+    }
+
+    /**
+     * 직전 조회(top/last/get) 성공 시점의 Job 반환
+     *
+     * @return 마지막 조회 성공한 Job 또는 null
+     */
+    @Override
+    public Job getLastViewed() {
+        return lastViewed;
+    }
+
+    /**
+     * 큐의 맨 앞(HEAD)을 조회 (삭제하지 않음, lastViewed 를 바꾸지 않음)
+     *
+     * @return 맨 앞 Job, 비어 있으면 Optional.empty()
+     */
+    @Override
+    public Optional<Job> peekFirst() {
+        return Optional.ofNullable(readAt(0));
+    }
+
+    /**
+     * 큐의 맨 뒤(TAIL)를 조회 (삭제하지 않음, lastViewed 를 바꾸지 않음)
+     *
+     * @return 맨 뒤 Job, 비어 있으면 Optional.empty()
+     */
+    @Override
+    public Optional<Job> peekLast() {
+        return Optional.ofNullable(readLast());
+    }
+
+    /**
+     * 0 기반 인덱스로 요소를 조회 (삭제하지 않음, lastViewed 를 바꾸지 않음, O(1))
+     *
+     * @param index 0 이상 정수 (int 범위 초과 불가)
+     * @return 해당 위치의 Job, 범위를 벗어나면 Optional.empty()
+     */
+    @Override
+    public Optional<Job> peek(long index) {
+        if (index < 0 || index > Integer.MAX_VALUE) return Optional.empty();
+        return Optional.ofNullable(readAt(index));
+    }
+
+    /**
+     * from 부터 최대 n 개의 스냅샷 (삭제하지 않음)
+     * - 슬롯마다 sequence 로 유효성을 확인해야 하므로 배열 일괄 복사 대신 한 칸씩 읽음
+     * - 읽는 도중 맨 앞이 반출되면 그 시점의 head 기준으로 처음부터 다시 읽음
+     *
+     * @param from 0 기반 시작 인덱스
+     * @param n    최대 개수
+     * @return 읽기 전용 목록 (범위를 벗어난 부분은 제외되며, 없으면 빈 목록)
+     */
+    @Override
+    public List<Job> peekRange(long from, int n) {
+        if (from < 0 || from > Integer.MAX_VALUE || n <= 0) return Collections.emptyList();
+
+        for (; ; ) {
+            long headPos = head.get();
+            long startPos = headPos + from;
+            int length = (int) Math.max(0L, Math.min(n, tail.get() - startPos));
+            Job[] snapshot = new Job[length];
+
+            int count = 0;
+            while (count < length) {
+                Job job = readSlot(startPos + count);
+                if (job == null) break;
+                snapshot[count++] = job;
+            }
+
+            if (count == length) return List.of(snapshot);
+            // 그 사이 반출되어 인덱스가 밀렸으면 다시 읽고, 뒤쪽이 아직 공개 전이면 읽은 데까지만 반환
+            if (head.get() == headPos) return List.of(Arrays.copyOf(snapshot, count));
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // 삭제/반출(쓰기) 계열
+    // ----------------------------------------------------------------------
+
+    /**
+     * 큐의 맨 앞(HEAD)을 삭제 (반환 없음)
+     *
+     * @return 삭제 성공 여부
+     */
+    @Override
+    public boolean deleteJobInQueue() {
+        return pollAndSignal() != null;
+    }
+
+    /**
+     * 큐의 모든 작업을 삭제 (초기화)
+     * - 맨 앞부터 하나씩 반출하므로 동시에 추가되는 작업은 남을 수 있음
+     *
+     * @return 초기화로 인해 실제로 비워졌다면 true, 이미 비어있었으면 false
+     */
+    @Override
+    public boolean clearQueue() {
+        boolean removed = false;
+        while (poll() != null) {
+            removed = true;
+        }
+        if (!removed) return false;
+
+        lastViewed = null;
+        // 여유가 크게 생겼으므로 대기 중 생산자 전부 깨움
+        signalProducers(Integer.MAX_VALUE);
+        return true;
+    }
+
+    /**
+     * 큐의 맨 앞(HEAD)을 팝(pop)하여 반환 (삭제하며 반환)
+     *
+     * @return 제거된 Job, 없으면 null
+     */
+    @Override
+    public Job exportJobFromQueue() {
+        return pollAndSignal();
+    }
+
+    /**
+     * 큐에서 작업을 반출하는 블로킹 메서드(무기한 대기)
+     *
+     * @return 꺼낸 Job, 인터럽트 발생 시 null
+     */
+    @Override
+    public Job exportJobFromQueueBlocking() {
+        try {
+            return exportJobFromQueueBlocking(0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * 큐에서 작업을 반출하는 블로킹 메서드(타임아웃 지원)
+     * - 비어 있을 때만 notEmpty 에서 대기
+     *
+     * @param timeout 최대 대기 시간 (0 이하면 무기한 대기)
+     * @param unit    시간 단위
+     * @return 꺼낸 Job, 타임아웃 시 null
+     * @throws InterruptedException 대기 중 인터럽트되면 발생
+     */
+    @Override
+    public Job exportJobFromQueueBlocking(long timeout, TimeUnit unit) throws InterruptedException {
+        // 빠른 경로: 요소가 있으면 lock 없이 반출
+        Job job = pollAndSignal();
+        if (job != null) return job;
+
+        job = awaitPoll((timeout <= 0) ? Long.MAX_VALUE : unit.toNanos(timeout));
+        if (job != null) signalProducer();
+        return job;
+    }
+
+    /**
+     * 맨 앞부터 최대 maxJobs 개를 한 번에 반출 (비차단)
+     * - 반출을 모두 마친 뒤 반출한 수만큼만 대기 중 생산자를 깨움 (묶음당 알림 한 번)
+     *
+     * @param target  반출한 Job 을 순서대로 담을 컬렉션
+     * @param maxJobs 최대 반출 수 (0 이하면 반출하지 않음)
+     * @return 반출한 Job 수
+     */
+    @Override
+    public int drainTo(Collection<? super Job> target, int maxJobs) {
+        if (target == null) throw new NullPointerException("target must not be null.");
+        if (maxJobs <= 0) return 0;
+
+        int drainedCount = drain(target, maxJobs);
+        signalProducers(drainedCount);
+        return drainedCount;
+    }
+
+    /**
+     * 하나 이상 들어올 때까지 대기한 뒤 최대 maxJobs 개를 한 번에 반출 (블로킹)
+     * - 첫 요소만 대기 경로로 가져오고 나머지는 lock 없이 이어서 반출
+     *
+     * @param maxJobs 최대 반출 수 (0 이하면 빈 목록)
+     * @param timeout 최대 대기 시간 (0 이하면 무기한 대기)
+     * @param unit    시간 단위
+     * @return 반출한 Job 목록 (입력 순서), 타임아웃 시 빈 목록
+     * @throws InterruptedException 대기 중 인터럽트되면 발생
+     */
+    @Override
+    public List<Job> drainAtLeastOne(int maxJobs, long timeout, TimeUnit unit) throws InterruptedException {
+        if (maxJobs <= 0) return new ArrayList<>(0);
+
+        List<Job> jobs = new ArrayList<>(Math.min(maxJobs, size() + 1));
+        if (drain(jobs, maxJobs) == 0) {
+            Job job = awaitPoll((timeout <= 0) ? Long.MAX_VALUE : unit.toNanos(timeout));
+            if (job == null) return jobs;
+
+            jobs.add(job);
+            drain(jobs, maxJobs - 1);
+        }
+
+        signalProducers(jobs.size());
+        // 남은 작업은 다른 대기 소비자가 이어서 가져가도록 전달
+        if (!isEmpty()) signalConsumer();
+        return jobs;
+    }
+
+    /**
+     * 비어 있는 동안 notEmpty 에서 대기하다가 하나를 반출 (생산자 알림은 호출 측에서 처리)
+     *
+     * @param nanos 최대 대기 시간 (Long.MAX_VALUE 면 무기한)
+     * @return 꺼낸 Job, 타임아웃 시 null
+     */
+    private Job awaitPoll(long nanos) throws InterruptedException {
+        Job job;
+        waitLock.lockInterruptibly();
+        try {
+            waitingConsumerCount++;
+            try {
+                for (; ; ) {
+                    // 대기 수 공개 후 재확인해야 추가 쪽 알림과 엇갈리지 않음
+                    VarHandle.fullFence();
+                    job = poll();
+                    if (job != null) break;
+
+                    if (nanos == Long.MAX_VALUE) {
+                        notEmpty.await();
+                    } else {
+                        if (nanos <= 0) return null;
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                }
+            } finally {
+                waitingConsumerCount--;
+            }
+        } finally {
+            waitLock.unlock();
+        }
+        return job;
+    }
+
+    // ----------------------------------------------------------------------
+    // 상태/보조
+    // ----------------------------------------------------------------------
+
+    /**
+     * 현재 큐 크기 반환 (근사치)
+     *
+     * @return 현재 요소 수
+     */
+    @Override
+    public int size() {
+        for (; ; ) {
+            long headPos = head.get();
+            long tailPos = tail.get();
+            // head 가 그대로면 두 값은 같은 시점의 상태로 볼 수 있음
+            if (head.get() == headPos) {
+                return (int) Math.max(0L, Math.min(tailPos - headPos, watermark));
+            }
+        }
+    }
+
+    /**
+     * 큐가 비어있는지 여부
+     *
+     * @return 비었으면 true
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 현재 큐가 워터마크 이상(가득 참)인지 여부
+     *
+     * @return 큐 크기 >= 워터마크이면 true
+     */
+    @Override
+    public boolean isAboveWatermark() {
+        return size() >= watermark;
+    }
+
+    @Override
+    public JobTimer getAdmissionTimer() {
+        return admissionTimer;
+    }
+
+    /**
+     * 링 크기 (워터마크 이상의 2의 거듭제곱)
+     */
+    public int getRingSize() {
+        return mask + 1;
+    }
+
+    // ----------------------------------------------------------------------
+    // 내부 구현
+    // ----------------------------------------------------------------------
+
+    private boolean offerAndSignal(Job job) {
+        if (!offer(job)) return false;
+        signalConsumer();
+        return true;
+    }
+
+    private Job pollAndSignal() {
+        Job job = poll();
+        if (job != null) signalProducer();
+        return job;
+    }
+
+    /**
+     * 비차단 추가 (가득 찼으면 false)
+     */
+    private boolean offer(Job job) {
+        for (; ; ) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+            long diff = sequence - pos;
+            if (diff == 0) {
+                // 링 크기가 워터마크보다 클 수 있으므로 논리 용량을 따로 확인
+                if (pos - head.get() >= watermark) return false;
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots[index] = job;
+                    SEQUENCES.setRelease(sequences, index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // 이전 바퀴의 반출이 아직 끝나지 않음 (가득 참)
+                return false;
+            }
+            // diff > 0 : 다른 생산자가 먼저 차지함, 다시 시도
+        }
+    }
+
+    /**
+     * 비차단 반출 (비어 있으면 null)
+     */
+    private Job poll() {
+        for (; ; ) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            long sequence = (long) SEQUENCES.getAcquire(sequences, index);
+            long diff = sequence - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    Job job = slots[index];
+                    slots[index] = null;
+                    SEQUENCES.setRelease(sequences, index, pos + mask + 1);
+                    return job;
+                }
+            } else if (diff < 0) {
+                // 비어 있거나 생산자가 아직 공개하지 않음
+                return null;
+            }
+            // diff > 0 : 다른 소비자가 먼저 가져감, 다시 시도
+        }
+    }
+
+    private int drain(Collection<? super Job> target, int maxJobs) {
+        int drainedCount = 0;
+        Job job;
+        while (drainedCount < maxJobs && (job = poll()) != null) {
+            target.add(job);
+            drainedCount++;
+        }
+        return drainedCount;
+    }
+
+    /**
+     * 맨 앞 기준 index 위치의 작업을 읽음 (범위를 벗어나면 null)
+     */
+    private Job readAt(long index) {
+        for (; ; ) {
+            long headPos = head.get();
+            long pos = headPos + index;
+            if (pos - tail.get() >= 0) return null;
+
+            Job job = readSlot(pos);
+            if (job != null) return job;
+            // 그 사이 앞쪽이 반출되어 인덱스가 밀렸거나 아직 공개 전인 슬롯이면 다시 확인
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 맨 뒤 작업을 읽음 (비어 있으면 null)
+     */
+    private Job readLast() {
+        for (; ; ) {
+            long tailPos = tail.get();
+            long headPos = head.get();
+            if (tailPos - headPos <= 0) return null;
+
+            Job job = readSlot(tailPos - 1);
+            if (job != null) return job;
+            // 그 사이 반출되었거나 아직 공개 전인 슬롯이면 다시 확인
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 위치 pos 의 작업을 꺼내지 않고 읽음 (아직 공개 전이거나 이미 반출되었으면 null)
+     */
+    private Job readSlot(long pos) {
+        int index = (int) pos & mask;
+        if ((long) SEQUENCES.getAcquire(sequences, index) != pos + 1) return null;
+
+        Job job = slots[index];
+        // 슬롯을 읽는 사이 반출되지 않았는지 sequence 로 재확인
+        VarHandle.acquireFence();
+        if ((long) SEQUENCES.getAcquire(sequences, index) != pos + 1) return null;
+        return job;
+    }
+
+    private void signalConsumer() {
+        // 슬롯 공개와 대기 수 확인 순서가 뒤바뀌지 않도록 함 (대기 쪽 재확인과 짝)
+        VarHandle.fullFence();
+        if (waitingConsumerCount == 0) return;
+
+        waitLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * count 개가 추가되었을 때 대기 중 소비자 깨움 (lock 한 번, 대기 수 이상이면 signalAll)
+     */
+    private void signalConsumers(int count) {
+        if (count <= 0) return;
+        VarHandle.fullFence();
+        if (waitingConsumerCount == 0) return;
+
+        waitLock.lock();
+        try {
+            signal(notEmpty, count, waitingConsumerCount);
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    private void signalProducer() {
+        VarHandle.fullFence();
+        if (waitingProducerCount == 0) return;
+
+        waitLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * count 개가 빠졌을 때 대기 중 생산자 깨움 (lock 한 번, 대기 수 이상이면 signalAll)
+     */
+    private void signalProducers(int count) {
+        if (count <= 0) return;
+        VarHandle.fullFence();
+        if (waitingProducerCount == 0) return;
+
+        waitLock.lock();
+        try {
+            signal(notFull, count, waitingProducerCount);
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    // waitLock 을 잡은 상태에서 호출
+    private static void signal(Condition condition, int count, int waitingCount) {
+        if (count >= waitingCount) {
+            condition.signalAll();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            condition.signal();
+        }
+    }
+
+    /**
+     * 앞뒤를 채워 다른 위치 값과 같은 캐시 라인에 놓이지 않도록 한 위치 값
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedPosition {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(PaddedPosition.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private long p01, p02, p03, p04, p05, p06, p07;
+        private volatile long value;
+        private long p11, p12, p13, p14, p15, p16, p17;
+
+        private long get() {
+            return value;
+        }
+
+        private boolean compareAndSet(long expectedValue, long newValue) {
+            return VALUE.compareAndSet(this, expectedValue, newValue);
+        }
+    }
+
+}
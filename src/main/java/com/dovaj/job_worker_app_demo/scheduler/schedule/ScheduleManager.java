@@ -1,13 +1,20 @@
 package com.dovaj.job_worker_app_demo.scheduler.schedule;
 
+import com.dovaj.job_worker_app_demo.scheduler.definition.JOB_SCHEDULE_RESULT_TYPE;
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencySnapshot;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduleResult;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnit;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -26,40 +33,60 @@ public class ScheduleManager {
     /// /////////////////////////////////////////////////////////
     // VARIABLES
     private static final Logger logger = LoggerFactory.getLogger(ScheduleManager.class);
-    private final HashMap<String, ScheduleUnit> scheduleUnitMap = new HashMap<>();
+    // 조회(startJob / stopJob)는 lock 없이 수행, 쓰기(unit 추가/삭제)만 스냅샷 갱신을 위해 lock 사용
+    private final ConcurrentHashMap<String, ScheduleUnit> scheduleUnitMap = new ConcurrentHashMap<>();
     private final ReentrantLock scheduleUnitMapLock = new ReentrantLock();
+    private volatile Map<String, ScheduleUnit> scheduleUnitSnapshot = Map.of();
+    // null 이면 unit 마다 전용 타이머 / executor 쓰레드 사용
+    private final SchedulerRuntime schedulerRuntime;
     ////////////////////////////////////////////////////////////
 
     /// /////////////////////////////////////////////////////////
     // CONSTRUCTOR
     public ScheduleManager() {
+        this(null);
+    }
+
+    /**
+     * 공유 런타임 위에서 동작하는 ScheduleManager 생성
+     * - 이 ScheduleManager 의 unit 들은 런타임의 타이머와 쓰레드를 다른 ScheduleManager 와 함께 사용
+     * - 런타임 수명은 호출자가 관리 (finish() 에서 멈추지 않음)
+     */
+    public ScheduleManager(SchedulerRuntime schedulerRuntime) {
+        this.schedulerRuntime = schedulerRuntime;
     }
     ////////////////////////////////////////////////////////////////////////////////
 
     /// /////////////////////////////////////////////////////////
     // FUNCTIONS
+    public SchedulerRuntime getSchedulerRuntime() {
+        return schedulerRuntime;
+    }
+
     public int getScheduleUnitMapSize() {
         return scheduleUnitMap.size();
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * 모니터링용 불변 스냅샷 반환
+     * - unit 추가/삭제 시점에만 새로 만들어지므로 조회 비용은 O(1) 이며 쓰기와 경합하지 않음
+     */
     public Map<String, ScheduleUnit> getCloneCallMap() {
-        HashMap<String, ScheduleUnit> cloneMap;
+        return scheduleUnitSnapshot;
+    }
 
+    private void refreshScheduleUnitSnapshot() {
         scheduleUnitMapLock.lock();
         try {
-            cloneMap = (HashMap<String, ScheduleUnit>) scheduleUnitMap.clone();
+            scheduleUnitSnapshot = Map.copyOf(scheduleUnitMap);
         } catch (Exception e) {
-            logger.warn("Fail to clone the schedule unit map.", e);
-            cloneMap = scheduleUnitMap;
+            logger.warn("Fail to refresh the schedule unit snapshot.", e);
         } finally {
             scheduleUnitMapLock.unlock();
         }
-
-        return cloneMap;
     }
 
-    private ScheduleUnit addScheduleUnit(String key, int poolSize, int queueSize) {
+    private ScheduleUnit addScheduleUnit(String key, int poolSize, int queueSize, ScheduleUnitOption scheduleUnitOption) {
         if (key == null) {
             return null;
         }
@@ -69,20 +96,28 @@ public class ScheduleManager {
             return scheduleUnit;
         }
 
-        scheduleUnitMapLock.lock();
         try {
-            scheduleUnit = new ScheduleUnit(
+            // unit 생성(쓰레드 / 타이머 시작)은 map 의 bin lock 밖에서 수행
+            ScheduleUnit newScheduleUnit = new ScheduleUnit(
                     key,
                     poolSize,
-                    queueSize
+                    queueSize,
+                    scheduleUnitOption,
+                    schedulerRuntime
             );
-            scheduleUnitMap.put(key, scheduleUnit);
-            return scheduleUnit;
+
+            // 같은 key 로 동시에 호출되면 먼저 등록된 unit 을 사용하고 나머지는 중지
+            scheduleUnit = scheduleUnitMap.putIfAbsent(key, newScheduleUnit);
+            if (scheduleUnit != null) {
+                newScheduleUnit.stopAll();
+                return scheduleUnit;
+            }
+
+            refreshScheduleUnitSnapshot();
+            return newScheduleUnit;
         } catch (Exception e) {
             logger.warn("Fail to add the schedule unit.", e);
             return null;
-        } finally {
-            scheduleUnitMapLock.unlock();
         }
     }
 
@@ -91,14 +126,14 @@ public class ScheduleManager {
             return;
         }
 
-        scheduleUnitMapLock.lock();
         try {
-            Optional.ofNullable(scheduleUnitMap.get(key)).ifPresent(ScheduleUnit::stopAll);
-            scheduleUnitMap.remove(key);
+            ScheduleUnit scheduleUnit = scheduleUnitMap.remove(key);
+            if (scheduleUnit != null) {
+                scheduleUnit.stopAll();
+                refreshScheduleUnitSnapshot();
+            }
         } catch (Exception e) {
             logger.warn("Fail to delete the schedule unit map.", e);
-        } finally {
-            scheduleUnitMapLock.unlock();
         }
     }
 
@@ -111,22 +146,28 @@ public class ScheduleManager {
     }
 
     public void clearScheduleUnitMap() {
-        scheduleUnitMapLock.lock();
         try {
-            scheduleUnitMap.values().forEach(ScheduleUnit::stopAll);
-            scheduleUnitMap.clear();
+            for (String key : scheduleUnitMap.keySet()) {
+                ScheduleUnit scheduleUnit = scheduleUnitMap.remove(key);
+                if (scheduleUnit != null) {
+                    scheduleUnit.stopAll();
+                }
+            }
+            refreshScheduleUnitSnapshot();
             logger.info("Success to clear the schedule unit map.");
         } catch (Exception e) {
             logger.warn("Fail to clear the schedule unit map.", e);
-        } finally {
-            scheduleUnitMapLock.unlock();
         }
     }
 
     /// /////////////////////////////////////////////////////////////////////////////
 
     public boolean initJob(String key, int totalThreadPoolSize, int priorityBlockingQueueSize) {
-        return addScheduleUnit(key, totalThreadPoolSize, priorityBlockingQueueSize) != null;
+        return initJob(key, totalThreadPoolSize, priorityBlockingQueueSize, new ScheduleUnitOption());
+    }
+
+    public boolean initJob(String key, int totalThreadPoolSize, int priorityBlockingQueueSize, ScheduleUnitOption scheduleUnitOption) {
+        return addScheduleUnit(key, totalThreadPoolSize, priorityBlockingQueueSize, scheduleUnitOption) != null;
     }
 
     public boolean startJob(String scheduleUnitKey, Job job) {
@@ -152,6 +193,51 @@ public class ScheduleManager {
         scheduleUnit.stop(job);
     }
 
+    /**
+     * 작업 일괄 예약 (반복 작업의 최초 발화 시각은 각자의 주기 안에서 분산)
+     *
+     * @return 입력 순서와 같은 작업별 결과 목록
+     */
+    public List<JobScheduleResult> startJobs(String scheduleUnitKey, Collection<Job> jobs) {
+        return startJobs(scheduleUnitKey, jobs, true);
+    }
+
+    public List<JobScheduleResult> startJobs(String scheduleUnitKey, Collection<Job> jobs, boolean isSpreadFirstFire) {
+        ScheduleUnit scheduleUnit = getScheduleUnit(scheduleUnitKey);
+        if (scheduleUnit == null) {
+            logger.warn("Fail to start the jobs. Fail to find the scheduleUnit. (scheduleUnitKey={})", scheduleUnitKey);
+            return toUnitNotFoundResults(jobs);
+        }
+
+        return scheduleUnit.startJobs(jobs, isSpreadFirstFire);
+    }
+
+    /**
+     * 작업 일괄 취소
+     *
+     * @return 입력 순서와 같은 작업별 결과 목록
+     */
+    public List<JobScheduleResult> stopJobs(String scheduleUnitKey, Collection<Job> jobs) {
+        ScheduleUnit scheduleUnit = getScheduleUnit(scheduleUnitKey);
+        if (scheduleUnit == null) {
+            return toUnitNotFoundResults(jobs);
+        }
+
+        return scheduleUnit.stopJobs(jobs);
+    }
+
+    private List<JobScheduleResult> toUnitNotFoundResults(Collection<Job> jobs) {
+        if (jobs == null) {
+            return List.of();
+        }
+
+        List<JobScheduleResult> results = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            results.add(new JobScheduleResult(job, JOB_SCHEDULE_RESULT_TYPE.UNIT_NOT_FOUND));
+        }
+        return results;
+    }
+
     public void stopAll(String scheduleUnitKey) {
         removeScheduleUnit(scheduleUnitKey);
     }
@@ -160,6 +246,24 @@ public class ScheduleManager {
         clearScheduleUnitMap();
     }
 
+    public JobLatencySnapshot getLatencySnapshot(String scheduleUnitKey) {
+        ScheduleUnit scheduleUnit = getScheduleUnit(scheduleUnitKey);
+        if (scheduleUnit == null) {
+            return null;
+        }
+
+        return scheduleUnit.getLatencySnapshot();
+    }
+
+    public Map<String, JobLatencySnapshot> getJobLatencySnapshots(String scheduleUnitKey) {
+        ScheduleUnit scheduleUnit = getScheduleUnit(scheduleUnitKey);
+        if (scheduleUnit == null) {
+            return Map.of();
+        }
+
+        return scheduleUnit.getJobLatencySnapshots();
+    }
+
     public int getActiveJobNumber(String scheduleUnitKey) {
         if (scheduleUnitKey == null) {
             return 0;
@@ -0,0 +1,25 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.clock;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.clock
+ * fileName       : SchedulerClock
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 스케줄러가 시각을 읽는 시계 인터페이스
+ * - 기본값은 System.nanoTime (SYSTEM)
+ * - 시뮬레이션에서는 VirtualSchedulerClock 으로 바꿔 실제 시간과 무관하게 진행
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface SchedulerClock {
+
+    SchedulerClock SYSTEM = System::nanoTime;
+
+    /**
+     * 현재 시각 (System.nanoTime 과 같이 차이 계산에만 사용)
+     */
+    long nanoTime();
+
+}
@@ -0,0 +1,68 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.clock;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.clock
+ * fileName       : VirtualSchedulerClock
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 호출자가 직접 진행시키는 가상 시계 클래스
+ * - advanceTo / advanceBy 로만 시각이 바뀌며, 뒤로 가지 않음 (진행은 하나의 쓰레드에서만 호출)
+ * - 생성 시각의 System.nanoTime 에서 시작하므로 System.nanoTime 기준으로 만든 값(실행 횟수 제한 등)과 섞어 써도 어긋나지 않음
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class VirtualSchedulerClock implements SchedulerClock {
+
+    private final long startNanoTime;
+    private volatile long nanoTime;
+
+    public VirtualSchedulerClock() {
+        this(System.nanoTime());
+    }
+
+    public VirtualSchedulerClock(long startNanoTime) {
+        this.startNanoTime = startNanoTime;
+        this.nanoTime = startNanoTime;
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanoTime;
+    }
+
+    /**
+     * 지정 시각으로 진행 (현재보다 이전 시각이면 무시)
+     */
+    public void advanceTo(long targetNanoTime) {
+        if (targetNanoTime - nanoTime > 0) {
+            nanoTime = targetNanoTime;
+        }
+    }
+
+    public void advanceBy(long nanos) {
+        if (nanos > 0) {
+            nanoTime += nanos;
+        }
+    }
+
+    /**
+     * 생성 이후 진행된 가상 시간
+     */
+    public long getElapsedNanos() {
+        return nanoTime - startNanoTime;
+    }
+
+    public long getStartNanoTime() {
+        return startNanoTime;
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualSchedulerClock{" +
+                "elapsedNanos=" + getElapsedNanos() +
+                '}';
+    }
+
+}
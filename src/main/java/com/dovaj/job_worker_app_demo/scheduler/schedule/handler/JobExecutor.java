@@ -1,13 +1,25 @@
 package com.dovaj.job_worker_app_demo.scheduler.schedule.handler;
 
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_QUEUE_TYPE;
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencyMetrics;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.clock.SchedulerClock;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue.JobDispatchEntry;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue.JobDispatchQueue;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
-import java.util.Comparator;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * packageName    : package com.dovaj.job_worker_app_demo.scheduler.schedule.handler
@@ -24,19 +36,80 @@ public class JobExecutor {
 
     /// /////////////////////////////////////////////////////////////////////////////
     private final int index;
+    private final DISPATCH_MODE_TYPE dispatchMode;
 
-    private final PriorityBlockingQueue<Job> priorityQueue;
-    private final ScheduledThreadPoolExecutor scheduledThreadPoolExecutor;
+    private final JobDispatchQueue jobQueue;
+
+    // POLLING 모드 전용
+    private ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = null;
+
+    private volatile boolean isRunning = true;
+
+    // BLOCKING, VIRTUAL_THREAD 모드 전용
+    private Thread workerThread = null;
+    private volatile boolean isWaiting = false;
+
+    // VIRTUAL_THREAD 모드 전용 (동시 실행 상한은 같은 단위의 executor 들이 공유)
+    private ThreadFactory virtualThreadFactory = null;
+    private Semaphore jobConcurrencyLimit = null;
+    private final AtomicInteger runningVirtualJobCount = new AtomicInteger(0);
+
+    // 공유 런타임 사용 시 자체 쓰레드 없이 런타임의 레인으로 동작
+    private final SchedulerRuntime schedulerRuntime;
+    private final AtomicBoolean isLaneScheduled = new AtomicBoolean(false);
+
+    // 공유 런타임 + VIRTUAL_THREAD 모드 전용 (런타임 쓰레드를 막지 않도록 동시 실행 상한은 기다리지 않고 확인)
+    // - 상한에 걸린 레인은 작업을 큐에 남긴 채 대기 목록에 등록하고 반납, 실행을 마친 작업이 permit 을 반납할 때 다시 등록
+    private volatile Queue<JobExecutor> permitWaitingLanes = null; // 같은 단위의 executor 들이 공유
+    private final AtomicBoolean isPermitWaiting = new AtomicBoolean(false);
+
+    // Work stealing (peers 가 null 이면 비활성)
+    private volatile JobExecutor[] peers = null;
+    private volatile boolean isBusy = false;
+    private final AtomicLong stolenJobCount = new AtomicLong(0);
+
+    // 부하 지표 (executor 선택 정책 및 모니터링용)
+    private static final int EWMA_WEIGHT_SHIFT = 3; // alpha = 1/8
+    private final AtomicInteger queuedJobCount = new AtomicInteger(0); // 큐 구현에 따라 size() 가 lock 을 잡거나 O(n) 이므로 별도 관리
+    private final AtomicLong completedJobCount = new AtomicLong(0);
+    private final AtomicLong lateStartCount = new AtomicLong(0); // 시작 기한을 넘겨 실행된 회차 수
+    private final AtomicLong cancelledJobCount = new AtomicLong(0); // 취소 표식으로 실행하지 않고 버린 회차 수
+    private volatile long ewmaRunTimeNanos = 0;
+    private volatile long ewmaStartDelayNanos = 0; // 적재 후 실행 시작까지의 지연 (executor 수 조절용)
+    private volatile JobLatencyMetrics latencyMetrics = null; // 단위 전체 지연 히스토그램 (null 이면 기록 안 함)
+    private volatile SchedulerClock clock = SchedulerClock.SYSTEM; // 실행 시작/소요 시각 측정용
     ////////////////////////////////////////////////////////////////////////////////
 
     /// /////////////////////////////////////////////////////////////////////////////
     public JobExecutor(String scheduleUnitKey, int index, int queueSize) {
-        this.index = index;
+        this(scheduleUnitKey, index, queueSize, DISPATCH_MODE_TYPE.BLOCKING);
+    }
 
-        priorityQueue = new PriorityBlockingQueue<>(
-                queueSize,
-                Comparator.comparing(Job::getPriority)
-        );
+    public JobExecutor(String scheduleUnitKey, int index, int queueSize, DISPATCH_MODE_TYPE dispatchMode) {
+        this(scheduleUnitKey, index, dispatchMode, JobDispatchQueue.of(DISPATCH_QUEUE_TYPE.PRIORITY_HEAP, queueSize, 0));
+    }
+
+    public JobExecutor(String scheduleUnitKey, int index, DISPATCH_MODE_TYPE dispatchMode, JobDispatchQueue jobQueue) {
+        this(scheduleUnitKey, index, dispatchMode, jobQueue, null);
+    }
+
+    /**
+     * @param jobConcurrencyLimit VIRTUAL_THREAD 모드에서 동시에 실행할 수 있는 작업 수 제한 (null 이면 무제한)
+     */
+    public JobExecutor(String scheduleUnitKey, int index, DISPATCH_MODE_TYPE dispatchMode, JobDispatchQueue jobQueue,
+                       Semaphore jobConcurrencyLimit) {
+        this(scheduleUnitKey, index, dispatchMode, jobQueue, jobConcurrencyLimit, null);
+    }
+
+    /**
+     * @param schedulerRuntime 공유 런타임 (null 이 아니면 자체 쓰레드를 만들지 않고 런타임 쓰레드가 큐를 처리)
+     */
+    public JobExecutor(String scheduleUnitKey, int index, DISPATCH_MODE_TYPE dispatchMode, JobDispatchQueue jobQueue,
+                       Semaphore jobConcurrencyLimit, SchedulerRuntime schedulerRuntime) {
+        this.index = index;
+        this.dispatchMode = (dispatchMode != null) ? dispatchMode : DISPATCH_MODE_TYPE.BLOCKING;
+        this.jobQueue = jobQueue;
+        this.schedulerRuntime = schedulerRuntime;
 
         ThreadFactory threadFactory = new BasicThreadFactory
                 .Builder()
@@ -44,58 +117,526 @@ public class JobExecutor {
                 .daemon(true)
                 .build();
 
-        scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
-        scheduledThreadPoolExecutor.scheduleAtFixedRate(
-                new Worker(),
-                0,
-                1,
-                TimeUnit.MILLISECONDS
-        );
+        if (this.dispatchMode == DISPATCH_MODE_TYPE.VIRTUAL_THREAD) {
+            // 반출 쓰레드(자체 worker 또는 런타임 쓰레드)는 반출만 담당하고, 작업 본문은 가상 쓰레드에서 실행
+            virtualThreadFactory = Thread.ofVirtual()
+                    .name(scheduleUnitKey + "_JobExecutor" + "-" + index + "-vt-", 0)
+                    .factory();
+            this.jobConcurrencyLimit = jobConcurrencyLimit;
+        }
+
+        if (schedulerRuntime != null) {
+            if (this.jobConcurrencyLimit != null) {
+                // 대기 목록을 공유받지 않으면 자신만 등록하는 목록 사용
+                permitWaitingLanes = new ConcurrentLinkedQueue<>();
+            }
+            return;
+        }
+
+        if (this.dispatchMode == DISPATCH_MODE_TYPE.POLLING) {
+            scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+            scheduledThreadPoolExecutor.scheduleAtFixedRate(
+                    new PollingWorker(),
+                    0,
+                    1,
+                    TimeUnit.MILLISECONDS
+            );
+        } else {
+            workerThread = threadFactory.newThread(new BlockingWorker());
+            workerThread.start();
+        }
     }
 
     /// /////////////////////////////////////////////////////////////////////////////
 
     public void stop() {
-        scheduledThreadPoolExecutor.shutdown();
-        priorityQueue.clear();
+        if (scheduledThreadPoolExecutor != null) {
+            scheduledThreadPoolExecutor.shutdown();
+        }
+        isRunning = false;
+        // 공유 런타임에서는 동시 실행 상한을 기다리지 않으므로 깨울 쓰레드가 없음
+        if (workerThread != null) {
+            if (virtualThreadFactory != null) {
+                // 동시 실행 상한에 걸려 대기 중일 수 있으므로 interrupt 로 깨움
+                workerThread.interrupt();
+            } else {
+                LockSupport.unpark(workerThread);
+            }
+        }
+        // 버리는 회차의 대기 수를 반납해야 같은 Job 의 overrun 판단이 어긋나지 않음
+        JobDispatchEntry entry;
+        while ((entry = jobQueue.poll()) != null) {
+            entry.getJob().cancelPendingRun();
+        }
+        jobQueue.clear();
+        queuedJobCount.set(0);
     }
 
+    /**
+     * 회차 적재 (적재 시각과 시작 기한은 지금 시각 기준)
+     */
     public boolean addJob(Job job) {
-        return priorityQueue.offer(job);
+        long enqueueNanoTime = clock.nanoTime();
+        long startDeadlineNanos = job.getStartDeadlineNanos();
+        return addJob(job, enqueueNanoTime, (startDeadlineNanos > 0) ? enqueueNanoTime + startDeadlineNanos : 0);
+    }
+
+    /**
+     * @param enqueueNanoTime       이 회차의 적재 시각 (스케줄러 시계 기준, 실행 시작까지의 지연 측정용)
+     * @param startDeadlineNanoTime 이 회차의 시작 기한 (스케줄러 시계 기준, 작업에 기한이 없으면 무시)
+     */
+    public boolean addJob(Job job, long enqueueNanoTime, long startDeadlineNanoTime) {
+        if (!isRunning) {
+            return false;
+        }
+
+        // poll 보다 먼저 증가시켜 카운터가 음수가 되지 않도록 함
+        queuedJobCount.incrementAndGet();
+        if (!jobQueue.offer(new JobDispatchEntry(job, enqueueNanoTime, startDeadlineNanoTime))) {
+            queuedJobCount.decrementAndGet();
+            return false;
+        }
+
+        if (schedulerRuntime != null) {
+            // 레인이 아직 준비 큐에 없을 때만 등록 (mailbox 방식)
+            if (isLaneScheduled.compareAndSet(false, true)) {
+                schedulerRuntime.submit(this);
+            }
+            return true;
+        }
+
+        // park 중인 worker 만 깨움 (실행 중이면 다음 루프에서 큐를 다시 확인함)
+        if (isWaiting) {
+            LockSupport.unpark(workerThread);
+        } else if (peers != null && isBusy) {
+            // 자신이 작업 중이면 유휴 peer 를 깨워 가져가도록 함
+            signalIdlePeer();
+        }
+        return true;
+    }
+
+    /**
+     * 공유 런타임 쓰레드에서 호출하여 큐에 쌓인 작업을 최대 maxJobCount 개까지 실행
+     * - 한 레인은 동시에 하나의 런타임 쓰레드만 처리함 (isLaneScheduled 로 보장)
+     * - 작업이 남아 있으면 레인을 준비 큐 뒤로 다시 등록하여 다른 단위에 차례를 넘김
+     * - VIRTUAL_THREAD 모드에서 동시 실행 상한에 걸리면 작업을 큐에 남긴 채 바로 반환 (permit 반납 시 다시 등록됨)
+     *
+     * @return 실행한 작업 수
+     */
+    public int drain(int maxJobCount) {
+        int drainedJobCount = 0;
+        Semaphore curLimit = (virtualThreadFactory != null) ? jobConcurrencyLimit : null;
+        try {
+            while (drainedJobCount < maxJobCount && isRunning) {
+                // 반출 전에 permit 을 확보해야 상한에 걸린 작업이 큐 순서를 잃지 않음
+                if (curLimit != null && !tryAcquirePermit(curLimit)) {
+                    break;
+                }
+
+                JobDispatchEntry entry = pollJob();
+                if (entry == null) {
+                    if (curLimit != null) {
+                        releasePermit(curLimit);
+                    }
+                    break;
+                }
+                dispatch(entry);
+                drainedJobCount++;
+            }
+        } finally {
+            isLaneScheduled.set(false);
+
+            // 플래그를 내린 뒤 재확인해야 addJob 과의 경합에서 등록이 유실되지 않음
+            // (permit 대기 중이면 반납하는 쪽이 다시 등록하므로 여기서는 등록하지 않음)
+            if (isRunning && queuedJobCount.get() > 0 && !isPermitWaiting.get() && isLaneScheduled.compareAndSet(false, true)) {
+                schedulerRuntime.submit(this);
+            }
+        }
+        return drainedJobCount;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public boolean isSharedRuntime() {
+        return schedulerRuntime != null;
+    }
+
+    /**
+     * 같은 JobScheduler 의 executor 목록을 등록하여 work stealing 활성화
+     * - 유휴 executor 는 작업 중인 peer 의 큐 맨 앞(최우선순위) 작업을 가져가므로 shard 내 우선순위 순서는 유지됨
+     *
+     * @param peers 자신을 포함한 executor 목록 (null 이면 비활성)
+     */
+    public void setPeers(JobExecutor[] peers) {
+        this.peers = peers;
+    }
+
+    /**
+     * 공유 런타임 + VIRTUAL_THREAD 모드에서 동시 실행 상한을 공유하는 executor 들의 permit 대기 목록 등록
+     * - permit 이 반납되면 다른 executor 의 레인이라도 깨울 수 있도록 같은 상한을 쓰는 executor 들이 같은 목록을 공유해야 함
+     */
+    public void setPermitWaitingLanes(Queue<JobExecutor> permitWaitingLanes) {
+        if (schedulerRuntime != null && jobConcurrencyLimit != null && permitWaitingLanes != null) {
+            this.permitWaitingLanes = permitWaitingLanes;
+        }
+    }
+
+    public void setLatencyMetrics(JobLatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    public void setClock(SchedulerClock clock) {
+        this.clock = (clock != null) ? clock : SchedulerClock.SYSTEM;
+    }
+
+    public boolean isWorkStealingEnabled() {
+        return peers != null;
+    }
+
+    public boolean isBusy() {
+        return isBusy;
+    }
+
+    public long getStolenJobCount() {
+        return stolenJobCount.get();
     }
 
     public int getIndex() {
         return index;
     }
 
+    public DISPATCH_MODE_TYPE getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public int getQueuedJobCount() {
+        return queuedJobCount.get();
+    }
+
+    /**
+     * 대기 중인 작업 수 + 실행 중인 작업 수
+     */
+    public int getOutstandingJobCount() {
+        return queuedJobCount.get() + (isBusy ? 1 : 0) + runningVirtualJobCount.get();
+    }
+
+    /**
+     * VIRTUAL_THREAD 모드에서 가상 쓰레드로 실행 중인 작업 수
+     */
+    public int getRunningVirtualJobCount() {
+        return runningVirtualJobCount.get();
+    }
+
+    public long getCompletedJobCount() {
+        return completedJobCount.get();
+    }
+
+    public long getLateStartCount() {
+        return lateStartCount.get();
+    }
+
+    public long getCancelledJobCount() {
+        return cancelledJobCount.get();
+    }
+
+    public long getEwmaRunTimeNanos() {
+        return ewmaRunTimeNanos;
+    }
+
+    public long getEwmaStartDelayNanos() {
+        return ewmaStartDelayNanos;
+    }
+
+    public JobExecutorLoad getLoad() {
+        return new JobExecutorLoad(
+                index,
+                queuedJobCount.get(),
+                isBusy,
+                completedJobCount.get(),
+                stolenJobCount.get(),
+                ewmaRunTimeNanos
+        );
+    }
+
     /// /////////////////////////////////////////////////////////////////////////////
 
-    private class Worker implements Runnable {
+    /**
+     * 취소된 작업의 회차는 큐에서 제거하지 않고 꺼낼 때 버림 (O(1))
+     */
+    private JobDispatchEntry pollJob() {
+        JobDispatchEntry entry;
+        while ((entry = jobQueue.poll()) != null) {
+            queuedJobCount.decrementAndGet();
+            Job job = entry.getJob();
+            if (!job.isCancelled()) {
+                return entry;
+            }
+            job.cancelPendingRun();
+            cancelledJobCount.incrementAndGet();
+        }
+        return null;
+    }
 
-        @Override
-        public void run() {
+    private JobDispatchEntry stealJob() {
+        JobExecutor[] curPeers = peers;
+        if (curPeers == null) {
+            return null;
+        }
+
+        int peerCount = curPeers.length;
+        for (int i = 1; i < peerCount; i++) {
+            JobExecutor peer = curPeers[(index + i) % peerCount];
+            if (peer == this || !peer.isBusy) {
+                continue;
+            }
+
+            JobDispatchEntry entry = peer.pollJob();
+            if (entry != null) {
+                stolenJobCount.incrementAndGet();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdlePeer() {
+        JobExecutor[] curPeers = peers;
+        if (curPeers == null) {
+            return;
+        }
+
+        int peerCount = curPeers.length;
+        for (int i = 1; i < peerCount; i++) {
+            JobExecutor peer = curPeers[(index + i) % peerCount];
+            if (peer != this && peer.isWaiting) {
+                LockSupport.unpark(peer.workerThread);
+                return;
+            }
+        }
+    }
+
+    private void dispatch(JobDispatchEntry entry) {
+        if (virtualThreadFactory != null) {
+            executeOnVirtualThread(entry);
+            return;
+        }
+
+        isBusy = true;
+        try {
+            execute(entry);
+        } finally {
+            isBusy = false;
+        }
+    }
+
+    private void executeOnVirtualThread(JobDispatchEntry entry) {
+        Job job = entry.getJob();
+        Semaphore curLimit = jobConcurrencyLimit;
+        // 공유 런타임에서는 drain 이 반출 전에 permit 을 확보함
+        if (curLimit != null && schedulerRuntime == null) {
             try {
-                // poll(): dequeue 후 객체 null 여부에 상관없이 기다리지 않음
-                // take(): dequeue 후 객체가 null 이 아닐 때까지 기다림
-                Job job = priorityQueue.poll();
-                if (job == null) {
-                    return;
+                curLimit.acquire();
+            } catch (InterruptedException e) {
+                // stop() 에 의한 종료
+                job.cancelPendingRun();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        runningVirtualJobCount.incrementAndGet();
+        try {
+            virtualThreadFactory.newThread(() -> {
+                try {
+                    execute(entry);
+                } finally {
+                    runningVirtualJobCount.decrementAndGet();
+                    if (curLimit != null) {
+                        releasePermit(curLimit);
+                    }
+                }
+            }).start();
+        } catch (Throwable t) {
+            runningVirtualJobCount.decrementAndGet();
+            if (curLimit != null) {
+                releasePermit(curLimit);
+            }
+            job.cancelPendingRun();
+        }
+    }
+
+    /**
+     * 공유 런타임 전용 : permit 을 기다리지 않고 확보 시도, 실패하면 permit 대기 목록에 등록
+     */
+    private boolean tryAcquirePermit(Semaphore curLimit) {
+        if (curLimit.tryAcquire()) {
+            return true;
+        }
+
+        if (isPermitWaiting.compareAndSet(false, true)) {
+            permitWaitingLanes.offer(this);
+        }
+        // 등록 전에 반납된 permit 이 있으면 깨워줄 쪽이 없으므로 등록 후 한 번 더 확인
+        // (목록에 남은 항목은 플래그를 내려 두었으므로 깨우는 쪽이 건너뜀)
+        if (curLimit.tryAcquire()) {
+            isPermitWaiting.set(false);
+            return true;
+        }
+        return false;
+    }
+
+    private void releasePermit(Semaphore curLimit) {
+        curLimit.release();
+        if (schedulerRuntime == null) {
+            return;
+        }
+
+        // 반납한 permit 하나로 실행할 수 있는 레인 하나만 다시 등록
+        Queue<JobExecutor> curWaitingLanes = permitWaitingLanes;
+        JobExecutor lane;
+        while ((lane = curWaitingLanes.poll()) != null) {
+            if (lane.isPermitWaiting.compareAndSet(true, false) && lane.submitLane()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 레인이 준비 큐에 없고 처리할 작업이 있으면 등록
+     *
+     * @return 등록했거나 이미 처리 중이어서 그 쪽에서 이어서 처리하면 true
+     */
+    private boolean submitLane() {
+        if (!isRunning || queuedJobCount.get() == 0) {
+            return false;
+        }
+        if (isLaneScheduled.compareAndSet(false, true)) {
+            schedulerRuntime.submit(this);
+        }
+        return true;
+    }
+
+    private void execute(JobDispatchEntry entry) {
+        Job job = entry.getJob();
+        // 꺼낸 뒤 실행 직전에 취소되었을 수 있으므로 시작 시점에 한 번 더 확인
+        if (!job.tryStartRun()) {
+            cancelledJobCount.incrementAndGet();
+            return;
+        }
+        SchedulerClock curClock = clock;
+        long startNanos = curClock.nanoTime();
+        recordEnqueueToStart(job, startNanos - entry.getEnqueueNanoTime());
+        if (job.checkLateStart(startNanos, entry.getStartDeadlineNanoTime())) {
+            lateStartCount.incrementAndGet();
+        }
+        try {
+            Runnable runnable = job.getRunnable();
+            if (runnable == null) {
+                return;
+            }
+
+            if (!job.isLasted()) {
+                if (job.getCurRemainRunCount() < 0) {
+                    job.setIsFinished(true);
                 }
+            }
+
+            runnable.run();
+        } catch (Exception e) {
+            // ignore
+        } finally {
+            long runTimeNanos = curClock.nanoTime() - startNanos;
+            updateEwmaRunTime(runTimeNanos);
+            recordRunTime(job, runTimeNanos);
+            completedJobCount.incrementAndGet();
+            job.finishRun();
+        }
+    }
 
-                Runnable runnable = job.getRunnable();
-                if (runnable == null) {
+    /**
+     * @param enqueueToStartNanos 실행하는 회차의 적재 시각부터 실행 시작까지의 지연
+     */
+    private void recordEnqueueToStart(Job job, long enqueueToStartNanos) {
+        long curEwma = ewmaStartDelayNanos;
+        ewmaStartDelayNanos = (curEwma == 0) ?
+                enqueueToStartNanos :
+                curEwma + ((enqueueToStartNanos - curEwma) >> EWMA_WEIGHT_SHIFT);
+        JobLatencyMetrics curLatencyMetrics = latencyMetrics;
+        if (curLatencyMetrics != null) {
+            curLatencyMetrics.recordEnqueueToStart(enqueueToStartNanos);
+        }
+        JobLatencyMetrics jobLatencyMetrics = job.getLatencyMetrics();
+        if (jobLatencyMetrics != null) {
+            jobLatencyMetrics.recordEnqueueToStart(enqueueToStartNanos);
+        }
+    }
+
+    private void recordRunTime(Job job, long runTimeNanos) {
+        JobLatencyMetrics curLatencyMetrics = latencyMetrics;
+        if (curLatencyMetrics != null) {
+            curLatencyMetrics.recordRunTime(runTimeNanos);
+        }
+        JobLatencyMetrics jobLatencyMetrics = job.getLatencyMetrics();
+        if (jobLatencyMetrics != null) {
+            jobLatencyMetrics.recordRunTime(runTimeNanos);
+        }
+    }
+
+    private void updateEwmaRunTime(long runTimeNanos) {
+        // 보통 worker 쓰레드 하나만 갱신하므로 CAS 불필요
+        // (VIRTUAL_THREAD 모드에서는 동시 갱신으로 일부 표본이 유실될 수 있으나 지표 용도이므로 허용)
+        long curEwma = ewmaRunTimeNanos;
+        ewmaRunTimeNanos = (curEwma == 0) ?
+                runTimeNanos :
+                curEwma + ((runTimeNanos - curEwma) >> EWMA_WEIGHT_SHIFT);
+    }
+
+    private class PollingWorker implements Runnable {
+
+        @Override
+        public void run() {
+            // poll(): dequeue 후 객체 null 여부에 상관없이 기다리지 않음
+            JobDispatchEntry entry = pollJob();
+            if (entry == null) {
+                entry = stealJob();
+                if (entry == null) {
                     return;
                 }
+            }
+
+            dispatch(entry);
+        }
+    }
+
+    private class BlockingWorker implements Runnable {
 
-                if (!job.isLasted()) {
-                    if (job.getCurRemainRunCount() < 0) {
-                        job.setIsFinished(true);
+        @Override
+        public void run() {
+            while (isRunning) {
+                JobDispatchEntry entry = pollJob();
+                if (entry == null) {
+                    entry = stealJob();
+                }
+                if (entry == null) {
+                    // 대기 플래그를 먼저 공개한 뒤 큐를 재확인해야 addJob 과의 경합에서 signal 이 유실되지 않음
+                    isWaiting = true;
+                    try {
+                        entry = pollJob();
+                        if (entry == null) {
+                            entry = stealJob();
+                        }
+                        if (entry == null) {
+                            LockSupport.park(this);
+                            continue;
+                        }
+                    } finally {
+                        isWaiting = false;
                     }
                 }
 
-                runnable.run();
-            } catch (Exception e) {
-                // ignore
+                dispatch(entry);
             }
         }
     }
@@ -0,0 +1,69 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler
+ * fileName       : JobExecutorLoad
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobExecutor 부하 지표 스냅샷 클래스 (불변)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class JobExecutorLoad {
+
+    private final int index;
+    private final int queuedJobCount;
+    private final boolean isBusy;
+    private final long completedJobCount;
+    private final long stolenJobCount;
+    private final long ewmaRunTimeNanos;
+
+    public JobExecutorLoad(int index, int queuedJobCount, boolean isBusy,
+                           long completedJobCount, long stolenJobCount, long ewmaRunTimeNanos) {
+        this.index = index;
+        this.queuedJobCount = queuedJobCount;
+        this.isBusy = isBusy;
+        this.completedJobCount = completedJobCount;
+        this.stolenJobCount = stolenJobCount;
+        this.ewmaRunTimeNanos = ewmaRunTimeNanos;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getQueuedJobCount() {
+        return queuedJobCount;
+    }
+
+    public boolean isBusy() {
+        return isBusy;
+    }
+
+    public long getCompletedJobCount() {
+        return completedJobCount;
+    }
+
+    public long getStolenJobCount() {
+        return stolenJobCount;
+    }
+
+    public long getEwmaRunTimeNanos() {
+        return ewmaRunTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "JobExecutorLoad{" +
+                "index=" + index +
+                ", queuedJobCount=" + queuedJobCount +
+                ", isBusy=" + isBusy +
+                ", completedJobCount=" + completedJobCount +
+                ", stolenJobCount=" + stolenJobCount +
+                ", ewmaRunTimeNanos=" + ewmaRunTimeNanos +
+                '}';
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.JOB_SCHEDULE_RESULT_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler
+ * fileName       : JobScheduleResult
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 일괄 예약 / 취소의 작업별 결과 클래스 (불변)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class JobScheduleResult {
+
+    private final Job job;
+    private final JOB_SCHEDULE_RESULT_TYPE resultType;
+
+    public JobScheduleResult(Job job, JOB_SCHEDULE_RESULT_TYPE resultType) {
+        this.job = job;
+        this.resultType = resultType;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public JOB_SCHEDULE_RESULT_TYPE getResultType() {
+        return resultType;
+    }
+
+    public boolean isSuccess() {
+        return resultType == JOB_SCHEDULE_RESULT_TYPE.SUCCESS;
+    }
+
+    @Override
+    public String toString() {
+        return "JobScheduleResult{" +
+                "job=" + ((job != null) ? job.getName() : null) +
+                ", resultType=" + resultType +
+                '}';
+    }
+
+}
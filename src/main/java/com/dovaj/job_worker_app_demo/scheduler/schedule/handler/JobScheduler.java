@@ -1,13 +1,39 @@
 package com.dovaj.job_worker_app_demo.scheduler.schedule.handler;
 
+import com.dovaj.job_worker_app_demo.scheduler.collection.LongObjectHashMap;
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.definition.JOB_SCHEDULE_RESULT_TYPE;
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencyMetrics;
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencySnapshot;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.clock.SchedulerClock;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.callback.JobFinishCallBack;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy.ExecutorSelectionPolicy;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue.JobDispatchQueue;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.limiter.TokenBucketRateLimiter;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.HashedWheelTimer;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimeout;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimer;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.JobAdder;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -27,28 +53,138 @@ public class JobScheduler {
     private static final Logger logger = LoggerFactory.getLogger(JobScheduler.class);
 
     private final String scheduleUnitKey;
-    private final int poolSize;
+    private final int poolSize; // 초기 executor 수
     private final int queueSize;
+    private final ScheduleUnitOption scheduleUnitOption;
+    private final SchedulerRuntime schedulerRuntime;
 
-    private final HashMap<String, JobAdder> scheduleMap = new HashMap<>();
+    // 기본 색인: Job handle -> JobAdder, 보조 색인: Job 이름 -> JobAdder (중복 예약 검사용)
+    private final LongObjectHashMap<JobAdder> scheduleMap = new LongObjectHashMap<>();
+    private final HashMap<String, JobAdder> jobNameIndex = new HashMap<>();
     private final ReentrantLock scheduleLock = new ReentrantLock();
+    private long lastJobHandle = 0; // scheduleLock 으로 보호
+    private final JobTimer jobTimer; // 모든 JobAdder 가 공유하는 타이머 (기본: 타이밍 휠)
+    private final boolean isJobTimerOwner; // 공유 런타임의 타이머면 단위 종료 시 멈추지 않음
+    private final SchedulerClock clock; // 적재 시각, 실행 횟수 제한 판단에 사용 (타이머와 같은 시계)
 
-    private final JobExecutor[] jobExecutors; // Round-Robin executor selection
-    private final ReentrantLock executorLock = new ReentrantLock();
+    // 적재 대상 executor 목록 (executor 수를 바꿀 때 새 배열로 교체)
+    private volatile JobExecutor[] jobExecutors;
+    private final Semaphore jobConcurrencyLimit;
+    private final Queue<JobExecutor> permitWaitingLanes; // 공유 런타임에서 동시 실행 상한에 걸린 레인 목록 (null 이면 미사용)
+    private final ExecutorSelectionPolicy executorSelectionPolicy; // 적재 시점 executor 선택 (기본: Round-Robin 고정)
+    private final AtomicBoolean isRunning = new AtomicBoolean(true); // 적재 경로는 lock 없이 이 플래그로만 수명 확인
+    private final LongAdder missedTickCount = new LongAdder(); // overrun 정책으로 건너뛴 주기 수 (단위 전체)
+    private final JobLatencyMetrics latencyMetrics; // 단위 전체 지연 히스토그램
+    private final boolean isJobLatencyMetrics;
+    private final TokenBucketRateLimiter rateLimiter; // 단위 전체 실행 횟수 제한 (null 이면 제한 없음)
+    private final LongAdder throttledCount = new LongAdder(); // 실행 횟수 제한으로 지연된 회차 수 (단위 전체)
     private final AtomicInteger curExecutorIndex = new AtomicInteger(0);
+
+    // 탄력적 executor 수 (minPoolSize == maxPoolSize 면 고정)
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final ReentrantLock poolSizeLock = new ReentrantLock();
+    private volatile JobExecutor retiringExecutor = null; // 적재 대상에서 빠져 남은 작업을 비우는 중인 executor
+    private boolean isIdle = false; // poolSizeLock 으로 보호
+    private long idleStartNanoTime = 0; // poolSizeLock 으로 보호
+    private volatile JobTimeout poolSizeCheckTimeout = null;
+    private final LongAdder scaleUpCount = new LongAdder();
+    private final LongAdder scaleDownCount = new LongAdder();
+    // 정리된 executor 의 누적 지표 (단위 전체 합계에서 빠지지 않도록 보관)
+    private final LongAdder retiredLateStartCount = new LongAdder();
+    private final LongAdder retiredCancelledJobCount = new LongAdder();
     ////////////////////////////////////////////////////////////////////////////////
 
     /// /////////////////////////////////////////////////////////////////////////////
     public JobScheduler(String scheduleUnitKey, int poolSize, int queueSize) {
+        this(scheduleUnitKey, poolSize, queueSize, new ScheduleUnitOption());
+    }
+
+    public JobScheduler(String scheduleUnitKey, int poolSize, int queueSize, ScheduleUnitOption scheduleUnitOption) {
+        this(scheduleUnitKey, poolSize, queueSize, scheduleUnitOption, null);
+    }
+
+    /**
+     * @param schedulerRuntime 공유 런타임 (null 이면 단위 전용 타이머와 executor 쓰레드 사용)
+     */
+    public JobScheduler(String scheduleUnitKey, int poolSize, int queueSize, ScheduleUnitOption scheduleUnitOption,
+                        SchedulerRuntime schedulerRuntime) {
         this.scheduleUnitKey = scheduleUnitKey;
-        this.poolSize = poolSize;
         this.queueSize = queueSize;
+        this.scheduleUnitOption = scheduleUnitOption;
+        this.schedulerRuntime = schedulerRuntime;
+
+        // 탄력적이면 초기 executor 수를 [minPoolSize, maxPoolSize] 범위로 보정
+        if (scheduleUnitOption.isElasticPoolSize()) {
+            maxPoolSize = scheduleUnitOption.getMaxPoolSize();
+            minPoolSize = Math.max(1, Math.min(scheduleUnitOption.getMinPoolSize(), maxPoolSize));
+            this.poolSize = Math.min(Math.max(poolSize, minPoolSize), maxPoolSize);
+        } else {
+            this.poolSize = poolSize;
+            minPoolSize = poolSize;
+            maxPoolSize = poolSize;
+        }
+
+        if (schedulerRuntime != null) {
+            jobTimer = schedulerRuntime.getJobTimer();
+            isJobTimerOwner = false;
+            clock = schedulerRuntime.getClock();
+        } else {
+            jobTimer = new HashedWheelTimer(scheduleUnitKey + "_JobTimer",
+                    Math.max(1L, scheduleUnitOption.getTimerTickMillis()), TimeUnit.MILLISECONDS, HashedWheelTimer.DEFAULT_WHEEL_SIZE);
+            isJobTimerOwner = true;
+            clock = SchedulerClock.SYSTEM;
+        }
+        executorSelectionPolicy = scheduleUnitOption.getExecutorSelectionPolicy();
+        latencyMetrics = new JobLatencyMetrics(scheduleUnitKey);
+        isJobLatencyMetrics = scheduleUnitOption.isJobLatencyMetrics();
+        rateLimiter = (scheduleUnitOption.getRateLimitPerSecond() > 0) ?
+                new TokenBucketRateLimiter(scheduleUnitOption.getRateLimitPerSecond(), scheduleUnitOption.getRateLimitBurst(), clock.nanoTime()) :
+                null;
 
-        jobExecutors = new JobExecutor[poolSize];
-        for (int i = 0; i < poolSize; i++) {
-            jobExecutors[i] = new JobExecutor(scheduleUnitKey, i, queueSize);
+        // VIRTUAL_THREAD 모드의 동시 실행 상한은 단위 전체에서 공유
+        if (scheduleUnitOption.getDispatchMode() == DISPATCH_MODE_TYPE.VIRTUAL_THREAD
+                && scheduleUnitOption.getVirtualThreadConcurrency() > 0) {
+            jobConcurrencyLimit = new Semaphore(scheduleUnitOption.getVirtualThreadConcurrency());
+        } else {
+            jobConcurrencyLimit = null;
+        }
+        permitWaitingLanes = (jobConcurrencyLimit != null && schedulerRuntime != null) ? new ConcurrentLinkedQueue<>() : null;
+
+        JobExecutor[] newJobExecutors = new JobExecutor[this.poolSize];
+        for (int i = 0; i < this.poolSize; i++) {
+            newJobExecutors[i] = newJobExecutor(i);
+        }
+        setJobExecutors(newJobExecutors);
+
+        if (minPoolSize < maxPoolSize) {
+            long checkIntervalMillis = Math.max(10L, scheduleUnitOption.getScaleCheckIntervalMillis());
+            poolSizeCheckTimeout = jobTimer.schedule(this::checkPoolSize, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
         }
     }
+
+    private JobExecutor newJobExecutor(int index) {
+        JobExecutor jobExecutor = new JobExecutor(
+                scheduleUnitKey, index, scheduleUnitOption.getDispatchMode(),
+                JobDispatchQueue.of(scheduleUnitOption.getDispatchQueueType(), queueSize, scheduleUnitOption.getAgingInterval()),
+                jobConcurrencyLimit,
+                schedulerRuntime
+        );
+        jobExecutor.setPermitWaitingLanes(permitWaitingLanes);
+        jobExecutor.setLatencyMetrics(latencyMetrics);
+        jobExecutor.setClock(clock);
+        return jobExecutor;
+    }
+
+    private void setJobExecutors(JobExecutor[] newJobExecutors) {
+        // 공유 런타임에서는 레인이 쓰레드에 고정되지 않으므로 work stealing 불필요
+        if (scheduleUnitOption.isWorkStealing() && schedulerRuntime == null) {
+            for (JobExecutor jobExecutor : newJobExecutors) {
+                jobExecutor.setPeers(newJobExecutors);
+            }
+        }
+        jobExecutors = newJobExecutors;
+    }
     ////////////////////////////////////////////////////////////////////////////////
 
     /// /////////////////////////////////////////////////////////////////////////////
@@ -59,29 +195,13 @@ public class JobScheduler {
 
         scheduleLock.lock();
         try {
-            if (job.isLasted() && job.getInterval() <= 0) {
-                logger.warn("[JobScheduler({})] Fail to start [{}]. Job is lasted, but interval is not positive. (interval={})",
-                        scheduleUnitKey,
-                        job.getName(), job.getInterval()
-                );
-                return false;
-            }
-
-            if (scheduleMap.get(scheduleUnitKey + ":" + job.getName()) != null) {
-                logger.warn("[JobScheduler({})] Job is already scheduled. ({})", scheduleUnitKey, job.getName());
+            if (validateJob(job) != JOB_SCHEDULE_RESULT_TYPE.SUCCESS) {
                 return false;
             }
 
-            JobAdder jobAdder = new JobAdder(this, job, curExecutorIndex.get());
+            JobAdder jobAdder = newJobAdder(job);
             jobAdder.run();
-            int curExecutorIndexValue = curExecutorIndex.incrementAndGet();
-            if (curExecutorIndexValue >= poolSize) {
-                curExecutorIndex.set(0);
-            }
-            scheduleMap.put(
-                    scheduleUnitKey + ":" + job.getName(),
-                    jobAdder
-            );
+            putJobAdder(jobAdder);
 
             if (logger.isDebugEnabled()) {
                 logger.debug("[JobScheduler({})] [{}] is started.", scheduleUnitKey, job.getName());
@@ -96,24 +216,244 @@ public class JobScheduler {
         return true;
     }
 
+    /**
+     * 작업 일괄 예약
+     * - scheduleLock 을 한 번만 잡고, 타이머 등록도 한 번에 처리
+     * - isSpreadFirstFire 가 true 면 반복 작업의 최초 발화 시각을 각자의 주기 안에서 고르게 분산 (동시 발화 방지)
+     *
+     * @return 입력 순서와 같은 작업별 결과 목록
+     */
+    public List<JobScheduleResult> scheduleAll(Collection<Job> jobs, boolean isSpreadFirstFire) {
+        List<JobScheduleResult> results = new ArrayList<>((jobs != null) ? jobs.size() : 0);
+        if (jobs == null || jobs.isEmpty()) {
+            return results;
+        }
+
+        // 분산 간격 계산용 반복 작업 수
+        int periodicJobCount = 0;
+        for (Job job : jobs) {
+            if (job != null && job.getIntervalNanos() > 0) {
+                periodicJobCount++;
+            }
+        }
+
+        List<JobAdder> jobAdders = new ArrayList<>(jobs.size());
+        List<Runnable> timerTasks = new ArrayList<>(jobs.size());
+        long[] initialDelayNanos = new long[jobs.size()];
+        long[] periodNanos = new long[jobs.size()];
+
+        scheduleLock.lock();
+        try {
+            int periodicJobIndex = 0;
+            for (Job job : jobs) {
+                JOB_SCHEDULE_RESULT_TYPE resultType = validateJob(job);
+                if (resultType != JOB_SCHEDULE_RESULT_TYPE.SUCCESS) {
+                    results.add(new JobScheduleResult(job, resultType));
+                    continue;
+                }
+
+                long periodNano = Math.max(0L, job.getIntervalNanos());
+                long spreadNanos = 0;
+                if (isSpreadFirstFire && periodNano > 0) {
+                    spreadNanos = (long) ((double) periodNano * periodicJobIndex / periodicJobCount);
+                    periodicJobIndex++;
+                }
+
+                JobAdder jobAdder = newJobAdder(job);
+                int taskIndex = jobAdders.size();
+                jobAdders.add(jobAdder);
+                timerTasks.add(jobAdder.newTimerTask());
+                initialDelayNanos[taskIndex] = Math.max(0L, job.getInitialDelayNanos()) + spreadNanos;
+                periodNanos[taskIndex] = periodNano;
+
+                // 같은 목록 안의 중복 이름도 걸러지도록 색인에 먼저 등록
+                putJobAdder(jobAdder);
+                results.add(new JobScheduleResult(job, JOB_SCHEDULE_RESULT_TYPE.SUCCESS));
+            }
+
+            List<? extends JobTimeout> timeouts = jobTimer.scheduleAll(timerTasks, initialDelayNanos, periodNanos);
+            for (int i = 0; i < timeouts.size(); i++) {
+                jobAdders.get(i).setTimeout(timeouts.get(i));
+            }
+
+            logger.info("[JobScheduler({})] Success to schedule the jobs. (requested={}, scheduled={})",
+                    scheduleUnitKey, jobs.size(), jobAdders.size()
+            );
+        } catch (Exception e) {
+            logger.warn("[JobScheduler({})] Fail to schedule the jobs.", scheduleUnitKey, e);
+
+            // 타이머 등록 전 실패이므로 이번에 등록한 작업을 모두 되돌림
+            for (JobAdder jobAdder : jobAdders) {
+                jobAdder.stop();
+                removeJobAdder(jobAdder);
+            }
+            List<JobScheduleResult> failedResults = new ArrayList<>(results.size());
+            for (JobScheduleResult result : results) {
+                failedResults.add(result.isSuccess() ?
+                        new JobScheduleResult(result.getJob(), JOB_SCHEDULE_RESULT_TYPE.FAILED) :
+                        result
+                );
+            }
+            return failedResults;
+        } finally {
+            scheduleLock.unlock();
+        }
+
+        return results;
+    }
+
+    /**
+     * 작업 일괄 취소
+     * - scheduleLock 을 한 번만 잡고, 종료 콜백은 lock 을 푼 뒤 각 작업의 executor 레인에서 호출
+     *
+     * @return 입력 순서와 같은 작업별 결과 목록
+     */
+    public List<JobScheduleResult> cancelAll(Collection<Job> jobs) {
+        List<JobScheduleResult> results = new ArrayList<>((jobs != null) ? jobs.size() : 0);
+        if (jobs == null || jobs.isEmpty()) {
+            return results;
+        }
+
+        List<JobAdder> canceledJobAdders = new ArrayList<>();
+        scheduleLock.lock();
+        try {
+            for (Job job : jobs) {
+                if (job == null) {
+                    results.add(new JobScheduleResult(null, JOB_SCHEDULE_RESULT_TYPE.INVALID));
+                    continue;
+                }
+
+                try {
+                    JobAdder jobAdder = findJobAdder(job);
+                    if (jobAdder == null) {
+                        results.add(new JobScheduleResult(job, JOB_SCHEDULE_RESULT_TYPE.NOT_FOUND));
+                        continue;
+                    }
+
+                    // 이름 색인으로 찾았으면 전달된 것과 다른 인스턴스일 수 있으므로 예약된 Job 기준으로 처리
+                    Job scheduledJob = jobAdder.getJob();
+                    scheduledJob.cancelQueuedRuns();
+                    jobAdder.stop();
+                    scheduledJob.setIsFinished(true);
+                    removeJobAdder(jobAdder);
+                    canceledJobAdders.add(jobAdder);
+                    results.add(new JobScheduleResult(job, JOB_SCHEDULE_RESULT_TYPE.SUCCESS));
+                } catch (Exception e) {
+                    logger.warn("[JobScheduler({})] Fail to cancel the job. ({})", scheduleUnitKey, job.getName(), e);
+                    results.add(new JobScheduleResult(job, JOB_SCHEDULE_RESULT_TYPE.FAILED));
+                }
+            }
+        } finally {
+            scheduleLock.unlock();
+        }
+
+        for (JobAdder canceledJobAdder : canceledJobAdders) {
+            runJobFinishCallBack(canceledJobAdder);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("[JobScheduler({})] Jobs are canceled. (requested={}, canceled={})",
+                    scheduleUnitKey, jobs.size(), canceledJobAdders.size()
+            );
+        }
+        return results;
+    }
+
+    /**
+     * 예약 가능 여부 확인 (scheduleLock 을 잡은 상태에서 호출해야 함)
+     */
+    private JOB_SCHEDULE_RESULT_TYPE validateJob(Job job) {
+        if (job == null || job.getName() == null || job.getTimeUnit() == null) {
+            return JOB_SCHEDULE_RESULT_TYPE.INVALID;
+        }
+
+        if (job.isLasted() && job.getIntervalNanos() <= 0) {
+            logger.warn("[JobScheduler({})] Fail to start [{}]. Job is lasted, but interval is not positive. (interval={})",
+                    scheduleUnitKey,
+                    job.getName(), job.getInterval()
+            );
+            return JOB_SCHEDULE_RESULT_TYPE.INVALID;
+        }
+
+        // tick 보다 짧은 주기는 거절하지 않고 tick 으로 올려서 발화하므로 알림만 남김
+        long tickNanos = jobTimer.getTickNanos();
+        if (job.getIntervalNanos() > 0 && job.getIntervalNanos() < tickNanos) {
+            logger.warn("[JobScheduler({})] [{}] Interval is shorter than the timer tick. It is rounded up to the tick. (intervalNanos={}, tickNanos={})",
+                    scheduleUnitKey,
+                    job.getName(), job.getIntervalNanos(), tickNanos
+            );
+        }
+
+        if (jobNameIndex.containsKey(job.getName())) {
+            logger.warn("[JobScheduler({})] Job is already scheduled. ({})", scheduleUnitKey, job.getName());
+            return JOB_SCHEDULE_RESULT_TYPE.DUPLICATED;
+        }
+
+        return JOB_SCHEDULE_RESULT_TYPE.SUCCESS;
+    }
+
+    /**
+     * handle 발급 후 Round-Robin 으로 executor 를 배정한 JobAdder 생성 (scheduleLock 을 잡은 상태에서 호출해야 함)
+     */
+    private JobAdder newJobAdder(Job job) {
+        job.setHandle(++lastJobHandle);
+        if (isJobLatencyMetrics && job.getLatencyMetrics() == null) {
+            job.setLatencyMetrics(new JobLatencyMetrics(job.getName()));
+        }
+
+        // executor 수가 바뀔 수 있으므로 최대 수 기준으로 배정하고, 적재 시점의 executor 수로 나눈 나머지를 사용
+        JobAdder jobAdder = new JobAdder(this, job, curExecutorIndex.get());
+        int curExecutorIndexValue = curExecutorIndex.incrementAndGet();
+        if (curExecutorIndexValue >= maxPoolSize) {
+            curExecutorIndex.set(0);
+        }
+        return jobAdder;
+    }
+
+    private void putJobAdder(JobAdder jobAdder) {
+        Job job = jobAdder.getJob();
+        scheduleMap.put(job.getHandle(), jobAdder);
+        jobNameIndex.put(job.getName(), jobAdder);
+    }
+
+    /**
+     * 작업 취소
+     * - 이미 executor 큐에 적재된 회차는 취소 표식으로 꺼낼 때 버려지므로, 반환 이후 새로 실행이 시작되지 않음
+     * - 반환 전에 실행을 시작한 회차는 끝까지 실행됨
+     */
     public void cancel(Job job) {
+        cancel(job, true);
+    }
+
+    /**
+     * 남은 실행 횟수 소진 등으로 더 이상 발화하지 않는 작업을 예약 목록에서 제거
+     * - 이미 적재된 회차는 그대로 실행됨
+     */
+    public void complete(Job job) {
+        cancel(job, false);
+    }
+
+    private void cancel(Job job, boolean isCancelQueuedRuns) {
         if (job == null) {
             return;
         }
 
+        JobAdder canceledJobAdder = null;
         scheduleLock.lock();
         try {
-            String jobKey = scheduleUnitKey + ":" + job.getName();
-            JobAdder jobAdder = scheduleMap.get(jobKey);
+            JobAdder jobAdder = findJobAdder(job);
             if (jobAdder != null) {
-                jobAdder.stop();
-                job.setIsFinished(true);
-                scheduleMap.remove(jobKey);
+                // 이름 색인으로 찾았으면 전달된 것과 다른 인스턴스일 수 있으므로 예약된 Job 기준으로 처리
+                Job scheduledJob = jobAdder.getJob();
 
-                JobFinishCallBack jobFinishCallBack = job.getJobFinishCallBack();
-                if (jobFinishCallBack != null) {
-                    jobFinishCallBack.finish();
+                // 타이머 중지보다 먼저 표식을 남겨 진행 중인 발화도 적재되지 않도록 함
+                if (isCancelQueuedRuns) {
+                    scheduledJob.cancelQueuedRuns();
                 }
+                jobAdder.stop();
+                scheduledJob.setIsFinished(true);
+                removeJobAdder(jobAdder);
+                canceledJobAdder = jobAdder;
 
                 if (logger.isDebugEnabled()) {
                     logger.debug("[JobScheduler({})] [{}] is canceled.", scheduleUnitKey, job.getName());
@@ -126,13 +466,103 @@ public class JobScheduler {
         } finally {
             scheduleLock.unlock();
         }
+
+        if (canceledJobAdder != null) {
+            runJobFinishCallBack(canceledJobAdder);
+        }
+    }
+
+    /**
+     * 1회성 작업이 발화된 이후 예약 목록에서 제거 (작업 종료 처리는 하지 않음)
+     */
+    public void release(Job job) {
+        if (job == null) {
+            return;
+        }
+
+        JobAdder releasedJobAdder = null;
+        scheduleLock.lock();
+        try {
+            JobAdder jobAdder = findJobAdder(job);
+            if (jobAdder != null) {
+                removeJobAdder(jobAdder);
+                releasedJobAdder = jobAdder;
+
+                if (logger.isDebugEnabled()) {
+                    logger.debug("[JobScheduler({})] [{}] is released.", scheduleUnitKey, job.getName());
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("[JobScheduler({})] Fail to release the job. ({})", scheduleUnitKey, job.getName(), e);
+        } finally {
+            scheduleLock.unlock();
+        }
+
+        if (releasedJobAdder != null) {
+            runJobFinishCallBack(releasedJobAdder);
+        }
+    }
+
+    /**
+     * 작업 종료 콜백을 작업이 배정된 executor 레인에 적재하여 실행 (scheduleLock 을 푼 뒤 호출해야 함)
+     * - complete / release 는 타이머 쓰레드에서 호출되므로, 사용자 콜백이 타이머와 scheduleLock 을 붙잡지 않도록 함
+     * - FIFO 반출이면 이미 적재된 회차가 실행된 뒤 호출됨
+     * - 단위가 멈춰 적재할 수 없으면 호출한 쓰레드에서 바로 실행
+     */
+    private void runJobFinishCallBack(JobAdder jobAdder) {
+        Job job = jobAdder.getJob();
+        JobFinishCallBack jobFinishCallBack = job.getJobFinishCallBack();
+        if (jobFinishCallBack == null) {
+            return;
+        }
+
+        try {
+            if (isRunning.get()) {
+                Job callBackJob = new Job();
+                callBackJob.setName(job.getName());
+                callBackJob.setTimeUnit(TimeUnit.NANOSECONDS);
+                callBackJob.setPriority(job.getPriority());
+                callBackJob.setRunnable(jobFinishCallBack::finish);
+
+                JobExecutor[] curJobExecutors = jobExecutors;
+                if (curJobExecutors[jobAdder.getExecutorIndex() % curJobExecutors.length].addJob(callBackJob)) {
+                    return;
+                }
+            }
+            jobFinishCallBack.finish();
+        } catch (Exception e) {
+            logger.warn("[JobScheduler({})] Fail to call the job finish callback. ({})", scheduleUnitKey, job.getName(), e);
+        }
+    }
+
+    /**
+     * handle 로 먼저 찾고 (다른 단위에서 발급된 handle 일 수 있으므로 Job 동일성 확인), 없으면 이름 색인으로 찾음
+     * - scheduleLock 을 잡은 상태에서 호출해야 함
+     */
+    private JobAdder findJobAdder(Job job) {
+        JobAdder jobAdder = scheduleMap.get(job.getHandle());
+        if (jobAdder != null && jobAdder.getJob() == job) {
+            return jobAdder;
+        }
+        return jobNameIndex.get(job.getName());
+    }
+
+    private void removeJobAdder(JobAdder jobAdder) {
+        Job job = jobAdder.getJob();
+        scheduleMap.remove(job.getHandle());
+        jobNameIndex.remove(job.getName());
+        job.setHandle(0);
     }
 
     public void stop() {
         scheduleLock.lock();
         try {
-            scheduleMap.values().forEach(JobAdder::stop);
+            scheduleMap.forEachValue(JobAdder::stop);
             scheduleMap.clear();
+            jobNameIndex.clear();
+            if (isJobTimerOwner) {
+                jobTimer.stop();
+            }
             logger.info("[JobScheduler({})] Success to stop all the jobs.", scheduleUnitKey);
         } catch (Exception e) {
             logger.warn("[JobScheduler({})] Fail to stop the jobs.", scheduleUnitKey, e);
@@ -140,15 +570,28 @@ public class JobScheduler {
             scheduleLock.unlock();
         }
 
-        executorLock.lock();
-        try {
-            for (int i = 0; i < poolSize; i++) {
-                jobExecutors[i].stop();
+        // 플래그를 먼저 내려 이후 적재를 막고, executor 정리는 한 번만 수행
+        if (isRunning.compareAndSet(true, false)) {
+            JobTimeout curPoolSizeCheckTimeout = poolSizeCheckTimeout;
+            if (curPoolSizeCheckTimeout != null) {
+                curPoolSizeCheckTimeout.cancel();
+            }
+
+            // 진행 중인 executor 수 조절이 끝난 뒤 정리
+            poolSizeLock.lock();
+            try {
+                for (JobExecutor jobExecutor : jobExecutors) {
+                    jobExecutor.stop();
+                }
+                JobExecutor curRetiringExecutor = retiringExecutor;
+                if (curRetiringExecutor != null) {
+                    curRetiringExecutor.stop();
+                }
+            } catch (Exception e) {
+                logger.warn("[JobScheduler({})] Fail to stop the job executors. Exception", scheduleUnitKey, e);
+            } finally {
+                poolSizeLock.unlock();
             }
-        } catch (Exception e) {
-            logger.warn("[JobScheduler({})] Fail to stop the job executors. Exception", scheduleUnitKey, e);
-        } finally {
-            executorLock.unlock();
         }
 
         logger.info("[JobScheduler({})] is finished.", scheduleUnitKey);
@@ -157,18 +600,424 @@ public class JobScheduler {
 
     /// /////////////////////////////////////////////////////////////////////////////
     public void addJobToExecutor(int executorIndex, Job job) {
-        executorLock.lock();
+        addJobToExecutor(executorIndex, job, 0);
+    }
+
+    /**
+     * @param fireNanoTime 타이머의 의도된 발화 시각 (타이머 시계 기준, 0 이면 fire-to-enqueue 지연 기록 안 함)
+     */
+    public void addJobToExecutor(int executorIndex, Job job, long fireNanoTime) {
+        // executor 큐는 자체적으로 스레드 안전하므로 전역 lock 없이 적재
+        if (!isRunning.get()) {
+            return;
+        }
+
+        // 이전 회차가 밀려 있으면 overrun 정책에 따라 이번 주기를 건너뜀
+        if (!job.tryReservePendingRun()) {
+            if (job.isCancelled()) {
+                return;
+            }
+            missedTickCount.increment();
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JobScheduler({})] [{}] tick is missed. (policy={}, pending={}, running={})",
+                        scheduleUnitKey, job.getName(), job.getOverrunPolicy(), job.getPendingRunCount(), job.getRunningCount()
+                );
+            }
+            return;
+        }
+
+        dispatchReservedJob(executorIndex, job, fireNanoTime, false, false, false);
+    }
+
+    /**
+     * overrun 정책으로 회차를 예약한 작업을 실행 횟수 제한 확인 후 executor 에 적재
+     * - 제한에 걸리면 버리지 않고 다음 빈 토큰을 예약한 뒤 그 시각에 타이머로 이어서 진행 (타이머 쓰레드를 막지 않음)
+     * - 토큰을 예약해 두므로 지연된 회차들이 같은 시각에 몰려 재시도하지 않음
+     * - 지연은 작업당 한 회차만 두고, 그동안 도래한 주기는 합쳐서 버림 (missedTickCount 로 집계)
+     *   주기가 토큰 간격보다 짧은 작업이 미래 토큰을 계속 예약해 같은 단위의 다른 작업을 굶기지 않도록 함
+     *
+     * @param isJobPermitAcquired  작업별 제한 토큰을 이미 예약했으면 true
+     * @param isUnitPermitAcquired 단위 제한 토큰을 이미 예약했으면 true
+     * @param isThrottled          이미 한 번 지연된 회차면 true (지연 횟수는 회차당 한 번만 집계)
+     */
+    private void dispatchReservedJob(int executorIndex, Job job, long fireNanoTime,
+                                     boolean isJobPermitAcquired, boolean isUnitPermitAcquired, boolean isThrottled) {
+        if (!isThrottled && job.isRunDeferred()) {
+            coalesceDeferredJob(job);
+            return;
+        }
+
+        long nowNanoTime = clock.nanoTime();
+        if (!isJobPermitAcquired) {
+            TokenBucketRateLimiter jobRateLimiter = job.getRateLimiter();
+            if (jobRateLimiter != null) {
+                long waitNanos = jobRateLimiter.reserve(nowNanoTime);
+                if (waitNanos > 0) {
+                    deferReservedJob(executorIndex, job, fireNanoTime, false, isThrottled, waitNanos);
+                    return;
+                }
+            }
+        }
+        if (!isUnitPermitAcquired && rateLimiter != null) {
+            long waitNanos = rateLimiter.reserve(nowNanoTime);
+            if (waitNanos > 0) {
+                deferReservedJob(executorIndex, job, fireNanoTime, true, isThrottled, waitNanos);
+                return;
+            }
+        }
+
+        if (isThrottled) {
+            job.clearRunDeferred();
+        }
+
         try {
-            if (jobExecutors[executorIndex].addJob(job)) {
+            JobExecutor[] curJobExecutors = jobExecutors;
+            int targetIndex = executorSelectionPolicy.select(curJobExecutors, executorIndex % curJobExecutors.length);
+
+            // worker 가 바로 꺼내 실행할 수 있으므로 적재 전에 시각을 기록
+            long enqueueNanoTime = clock.nanoTime();
+            long startDeadlineNanoTime = 0;
+            if (job.getStartDeadlineNanos() > 0) {
+                // 시작 기한은 의도된 발화 시각 기준 (모르면 적재 시각 기준)
+                long baseNanoTime = (fireNanoTime != 0) ? fireNanoTime : enqueueNanoTime;
+                startDeadlineNanoTime = baseNanoTime + job.getStartDeadlineNanos();
+            }
+            if (fireNanoTime != 0) {
+                long fireToEnqueueNanos = enqueueNanoTime - fireNanoTime;
+                latencyMetrics.recordFireToEnqueue(fireToEnqueueNanos);
+                JobLatencyMetrics jobLatencyMetrics = job.getLatencyMetrics();
+                if (jobLatencyMetrics != null) {
+                    jobLatencyMetrics.recordFireToEnqueue(fireToEnqueueNanos);
+                }
+            }
+
+            JobExecutor jobExecutor = curJobExecutors[targetIndex];
+            boolean isAdded = jobExecutor.addJob(job, enqueueNanoTime, startDeadlineNanoTime);
+            if (!isAdded && !jobExecutor.isRunning() && isRunning.get()) {
+                // executor 수 감소로 정리된 executor 를 골랐으면 현재 목록에서 다시 선택
+                curJobExecutors = jobExecutors;
+                jobExecutor = curJobExecutors[executorIndex % curJobExecutors.length];
+                isAdded = jobExecutor.addJob(job, enqueueNanoTime, startDeadlineNanoTime);
+            }
+
+            if (isAdded) {
                 if (logger.isDebugEnabled()) {
-                    logger.debug("jobExecutor[{}] add job ({})", curExecutorIndex.get(), job.getName());
+                    logger.debug("jobExecutor[{}] add job ({})", jobExecutor.getIndex(), job.getName());
                 }
+            } else {
+                job.cancelPendingRun();
             }
         } catch (Exception e) {
+            job.cancelPendingRun();
             logger.warn("[JobScheduler({})] Fail to add the job to executors. Exception", scheduleUnitKey, e);
+        }
+    }
+
+    /**
+     * @param isUnitPermitAcquired true 면 단위 제한 토큰을 예약한 경우 (아니면 작업별 제한 토큰을 예약한 경우)
+     */
+    private void deferReservedJob(int executorIndex, Job job, long fireNanoTime,
+                                  boolean isUnitPermitAcquired, boolean isThrottled, long waitNanos) {
+        if (!isThrottled) {
+            if (!job.tryMarkRunDeferred()) {
+                // 다른 쓰레드가 먼저 지연시킨 회차가 있으면 예약한 토큰을 돌려주고 합침
+                releaseReservedPermits(job, isUnitPermitAcquired);
+                coalesceDeferredJob(job);
+                return;
+            }
+            throttledCount.increment();
+            job.incThrottledCount();
+        }
+
+        try {
+            jobTimer.schedule(() -> {
+                // 지연되는 동안 단위가 멈췄거나 작업이 취소되었으면 예약한 회차와 토큰을 되돌림
+                if (!isRunning.get() || job.isCancelled()) {
+                    releaseReservedPermits(job, isUnitPermitAcquired);
+                    job.clearRunDeferred();
+                    job.cancelPendingRun();
+                    return;
+                }
+                // 예약한 토큰의 시각이므로 해당 제한은 다시 확인하지 않음
+                dispatchReservedJob(executorIndex, job, fireNanoTime, true, isUnitPermitAcquired, true);
+            }, waitNanos, 0, TimeUnit.NANOSECONDS);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("[JobScheduler({})] [{}] is throttled. (waitNanos={})", scheduleUnitKey, job.getName(), waitNanos);
+            }
+        } catch (Exception e) {
+            releaseReservedPermits(job, isUnitPermitAcquired);
+            job.clearRunDeferred();
+            job.cancelPendingRun();
+            logger.warn("[JobScheduler({})] Fail to defer the throttled job. ({})", scheduleUnitKey, job.getName(), e);
+        }
+    }
+
+    /**
+     * 이미 지연 중인 회차가 있는 작업의 새 주기를 적재하지 않고 그 회차에 합침
+     */
+    private void coalesceDeferredJob(Job job) {
+        job.coalesceDeferredRun();
+        missedTickCount.increment();
+        if (logger.isDebugEnabled()) {
+            logger.debug("[JobScheduler({})] [{}] tick is coalesced into the throttled run.", scheduleUnitKey, job.getName());
+        }
+    }
+
+    /**
+     * 지연된 회차를 버릴 때 그 회차가 예약한 토큰을 반납
+     * - 단위 제한으로 지연된 회차는 작업별 제한 토큰도 이미 받은 상태이므로 둘 다 반납
+     *
+     * @param isUnitPermitAcquired true 면 단위 제한 토큰을 예약한 경우 (아니면 작업별 제한 토큰만 예약한 경우)
+     */
+    private void releaseReservedPermits(Job job, boolean isUnitPermitAcquired) {
+        long nowNanoTime = clock.nanoTime();
+        TokenBucketRateLimiter jobRateLimiter = job.getRateLimiter();
+        if (jobRateLimiter != null) {
+            jobRateLimiter.release(nowNanoTime);
+        }
+        if (isUnitPermitAcquired && rateLimiter != null) {
+            rateLimiter.release(nowNanoTime);
+        }
+    }
+
+    /**
+     * 주기적으로 부하를 확인하여 executor 수를 [minPoolSize, maxPoolSize] 범위에서 하나씩 조절 (타이머 쓰레드에서 호출)
+     * - 증가: executor 당 평균 대기 작업 수 또는 적재 후 실행 시작까지의 지연이 기준 이상
+     * - 감소: 작업이 없는 executor 가 scaleDownIdleMillis 동안 계속 있음
+     * - 감소 대상은 적재 목록에서 먼저 빼고, 남은 작업을 모두 실행한 뒤 다음 확인 시점에 정리 (적재 경로에 lock 이 없으므로 유예를 둠)
+     */
+    private void checkPoolSize() {
+        poolSizeLock.lock();
+        try {
+            if (!isRunning.get()) {
+                return;
+            }
+            releaseRetiringExecutor();
+
+            JobExecutor[] curJobExecutors = jobExecutors;
+            int curPoolSize = curJobExecutors.length;
+            long queuedJobCount = 0;
+            long maxStartDelayNanos = 0;
+            int idleExecutorCount = 0;
+            for (JobExecutor jobExecutor : curJobExecutors) {
+                int executorQueuedJobCount = jobExecutor.getQueuedJobCount();
+                queuedJobCount += executorQueuedJobCount;
+                if (jobExecutor.getOutstandingJobCount() == 0) {
+                    idleExecutorCount++;
+                } else if (executorQueuedJobCount > 0) {
+                    // 대기 작업이 있는 executor 의 지연만 반영 (유휴 executor 의 지연 값은 오래된 값)
+                    maxStartDelayNanos = Math.max(maxStartDelayNanos, jobExecutor.getEwmaStartDelayNanos());
+                }
+            }
+
+            long scaleUpLagNanos = TimeUnit.MILLISECONDS.toNanos(scheduleUnitOption.getScaleUpLagMillis());
+            boolean isOverloaded = queuedJobCount >= (long) scheduleUnitOption.getScaleUpQueueDepth() * curPoolSize
+                    || (scaleUpLagNanos > 0 && maxStartDelayNanos >= scaleUpLagNanos);
+            if (isOverloaded) {
+                isIdle = false;
+                if (curPoolSize < maxPoolSize) {
+                    growPoolSize(curJobExecutors, queuedJobCount, maxStartDelayNanos);
+                }
+                return;
+            }
+
+            if (idleExecutorCount == 0 || curPoolSize <= minPoolSize) {
+                isIdle = false;
+                return;
+            }
+
+            long nowNanoTime = clock.nanoTime();
+            if (!isIdle) {
+                isIdle = true;
+                idleStartNanoTime = nowNanoTime;
+                return;
+            }
+            if (retiringExecutor == null
+                    && nowNanoTime - idleStartNanoTime >= TimeUnit.MILLISECONDS.toNanos(scheduleUnitOption.getScaleDownIdleMillis())) {
+                shrinkPoolSize(curJobExecutors);
+                // 다음 감소도 유휴 시간을 다시 채운 뒤 수행
+                idleStartNanoTime = nowNanoTime;
+            }
+        } catch (Exception e) {
+            logger.warn("[JobScheduler({})] Fail to check the pool size.", scheduleUnitKey, e);
+        } finally {
+            poolSizeLock.unlock();
+        }
+    }
+
+    // poolSizeLock 을 잡은 상태에서 호출
+    private void growPoolSize(JobExecutor[] curJobExecutors, long queuedJobCount, long maxStartDelayNanos) {
+        int curPoolSize = curJobExecutors.length;
+
+        // 정리 대기 중인 executor 가 있으면 새로 만들지 않고 다시 사용 (항상 마지막 다음 인덱스)
+        JobExecutor jobExecutor = retiringExecutor;
+        if (jobExecutor != null) {
+            retiringExecutor = null;
+        } else {
+            jobExecutor = newJobExecutor(curPoolSize);
+        }
+
+        JobExecutor[] newJobExecutors = Arrays.copyOf(curJobExecutors, curPoolSize + 1);
+        newJobExecutors[curPoolSize] = jobExecutor;
+        setJobExecutors(newJobExecutors);
+        scaleUpCount.increment();
+
+        logger.info("[JobScheduler({})] Pool size is increased. ({} -> {}, queued={}, startDelayNanos={})",
+                scheduleUnitKey, curPoolSize, curPoolSize + 1, queuedJobCount, maxStartDelayNanos
+        );
+    }
+
+    // poolSizeLock 을 잡은 상태에서 호출
+    private void shrinkPoolSize(JobExecutor[] curJobExecutors) {
+        int curPoolSize = curJobExecutors.length;
+        JobExecutor jobExecutor = curJobExecutors[curPoolSize - 1];
+
+        setJobExecutors(Arrays.copyOf(curJobExecutors, curPoolSize - 1));
+        // 남은 작업만 실행하도록 다른 executor 의 작업은 가져가지 않음
+        jobExecutor.setPeers(null);
+        retiringExecutor = jobExecutor;
+        scaleDownCount.increment();
+
+        logger.info("[JobScheduler({})] Pool size is decreased. ({} -> {})", scheduleUnitKey, curPoolSize, curPoolSize - 1);
+    }
+
+    // poolSizeLock 을 잡은 상태에서 호출
+    private void releaseRetiringExecutor() {
+        JobExecutor jobExecutor = retiringExecutor;
+        if (jobExecutor == null || jobExecutor.getOutstandingJobCount() > 0) {
+            return;
+        }
+
+        retiringExecutor = null;
+        jobExecutor.stop();
+        retiredLateStartCount.add(jobExecutor.getLateStartCount());
+        retiredCancelledJobCount.add(jobExecutor.getCancelledJobCount());
+    }
+
+    public boolean isRunning() {
+        return isRunning.get();
+    }
+
+    /**
+     * 현재 적재 대상 executor 수
+     */
+    public int getPoolSize() {
+        return jobExecutors.length;
+    }
+
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public long getScaleUpCount() {
+        return scaleUpCount.sum();
+    }
+
+    public long getScaleDownCount() {
+        return scaleDownCount.sum();
+    }
+
+    /**
+     * 실행 횟수 제한(단위 또는 작업별)으로 지연된 회차 수 (단위 전체)
+     */
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    public long getMissedTickCount() {
+        return missedTickCount.sum();
+    }
+
+    /**
+     * 시작 기한을 넘겨 실행된 회차 수 (단위 전체)
+     */
+    public long getLateStartCount() {
+        long lateStartCount = retiredLateStartCount.sum();
+        for (JobExecutor jobExecutor : jobExecutors) {
+            lateStartCount += jobExecutor.getLateStartCount();
+        }
+        JobExecutor curRetiringExecutor = retiringExecutor;
+        if (curRetiringExecutor != null) {
+            lateStartCount += curRetiringExecutor.getLateStartCount();
+        }
+        return lateStartCount;
+    }
+
+    /**
+     * 취소 표식으로 실행하지 않고 버린 회차 수 (단위 전체)
+     */
+    public long getCancelledJobCount() {
+        long cancelledJobCount = retiredCancelledJobCount.sum();
+        for (JobExecutor jobExecutor : jobExecutors) {
+            cancelledJobCount += jobExecutor.getCancelledJobCount();
+        }
+        JobExecutor curRetiringExecutor = retiringExecutor;
+        if (curRetiringExecutor != null) {
+            cancelledJobCount += curRetiringExecutor.getCancelledJobCount();
+        }
+        return cancelledJobCount;
+    }
+
+    /**
+     * executor 큐에 대기 중인 회차 수 (단위 전체)
+     */
+    public int getQueuedJobCount() {
+        int queuedJobCount = 0;
+        for (JobExecutor jobExecutor : jobExecutors) {
+            queuedJobCount += jobExecutor.getQueuedJobCount();
+        }
+        JobExecutor curRetiringExecutor = retiringExecutor;
+        if (curRetiringExecutor != null) {
+            queuedJobCount += curRetiringExecutor.getQueuedJobCount();
+        }
+        return queuedJobCount;
+    }
+
+    public List<JobExecutorLoad> getExecutorLoads() {
+        JobExecutor[] curJobExecutors = jobExecutors;
+        List<JobExecutorLoad> executorLoads = new ArrayList<>(curJobExecutors.length);
+        for (JobExecutor jobExecutor : curJobExecutors) {
+            executorLoads.add(jobExecutor.getLoad());
+        }
+        return executorLoads;
+    }
+
+    public JobLatencySnapshot getLatencySnapshot() {
+        return latencyMetrics.snapshot();
+    }
+
+    /**
+     * 예약 중인 작업 이름별 지연 스냅샷
+     */
+    public Map<String, JobLatencySnapshot> getJobLatencySnapshots() {
+        List<JobLatencyMetrics> jobLatencyMetricsList = new ArrayList<>();
+        scheduleLock.lock();
+        try {
+            scheduleMap.forEachValue(jobAdder -> {
+                JobLatencyMetrics jobLatencyMetrics = jobAdder.getJob().getLatencyMetrics();
+                if (jobLatencyMetrics != null) {
+                    jobLatencyMetricsList.add(jobLatencyMetrics);
+                }
+            });
         } finally {
-            executorLock.unlock();
+            scheduleLock.unlock();
         }
+
+        // 스냅샷 계산은 lock 밖에서 수행
+        Map<String, JobLatencySnapshot> jobLatencySnapshots = new LinkedHashMap<>();
+        for (JobLatencyMetrics jobLatencyMetrics : jobLatencyMetricsList) {
+            jobLatencySnapshots.put(jobLatencyMetrics.getName(), jobLatencyMetrics.snapshot());
+        }
+        return jobLatencySnapshots;
+    }
+
+    public JobTimer getJobTimer() {
+        return jobTimer;
     }
 
     public int getScheduledJobCount() {
@@ -188,6 +1037,8 @@ public class JobScheduler {
         return "JobScheduler{" +
                 "scheduleUnitKey='" + scheduleUnitKey + '\'' +
                 ", poolSize=" + poolSize +
+                ", minPoolSize=" + minPoolSize +
+                ", maxPoolSize=" + maxPoolSize +
                 ", queueSize=" + queueSize +
                 '}';
     }
@@ -0,0 +1,41 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy
+ * fileName       : EwmaRunTimeSelectionPolicy
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 예상 대기 시간이 가장 짧은 executor 를 선택하는 정책
+ * - 예상 대기 시간 = (대기 작업 수 + 실행 중 작업 수) x executor 의 평균 실행 시간(EWMA)
+ * - 실행 시간이 긴 작업이 몰린 executor 를 회피하므로 실행 시간 편차가 클 때 꼬리 지연을 줄임
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class EwmaRunTimeSelectionPolicy implements ExecutorSelectionPolicy {
+
+    @Override
+    public int select(JobExecutor[] jobExecutors, int pinnedIndex) {
+        int selectedIndex = pinnedIndex;
+        long minExpectedWait = expectedWaitNanos(jobExecutors[pinnedIndex]);
+
+        for (int i = 0; i < jobExecutors.length && minExpectedWait > 0; i++) {
+            long expectedWait = expectedWaitNanos(jobExecutors[i]);
+            if (expectedWait < minExpectedWait) {
+                minExpectedWait = expectedWait;
+                selectedIndex = i;
+            }
+        }
+        return selectedIndex;
+    }
+
+    private long expectedWaitNanos(JobExecutor jobExecutor) {
+        // 아직 실행 이력이 없으면 1ns 로 간주하여 대기 작업 수로 비교
+        long ewmaRunTimeNanos = Math.max(1L, jobExecutor.getEwmaRunTimeNanos());
+        return jobExecutor.getOutstandingJobCount() * ewmaRunTimeNanos;
+    }
+
+}
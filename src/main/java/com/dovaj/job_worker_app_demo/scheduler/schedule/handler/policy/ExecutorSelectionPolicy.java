@@ -0,0 +1,45 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.EXECUTOR_SELECTION_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy
+ * fileName       : ExecutorSelectionPolicy
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 적재 대상 JobExecutor 선택 정책 인터페이스
+ * - 타이머 발화마다 호출되므로 구현체는 lock / 할당 없이 동작해야 함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface ExecutorSelectionPolicy {
+
+    /**
+     * @param jobExecutors 선택 대상 executor 목록 (비어있지 않음)
+     * @param pinnedIndex  예약 시점에 Round-Robin 으로 배정된 executor 인덱스
+     * @return 작업을 적재할 executor 인덱스
+     */
+    int select(JobExecutor[] jobExecutors, int pinnedIndex);
+
+    static ExecutorSelectionPolicy of(EXECUTOR_SELECTION_TYPE executorSelectionType) {
+        if (executorSelectionType == null) {
+            return new RoundRobinSelectionPolicy();
+        }
+
+        switch (executorSelectionType) {
+            case LEAST_QUEUED:
+                return new LeastQueuedSelectionPolicy();
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesSelectionPolicy();
+            case EWMA_RUN_TIME:
+                return new EwmaRunTimeSelectionPolicy();
+            case ROUND_ROBIN:
+            default:
+                return new RoundRobinSelectionPolicy();
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy
+ * fileName       : LeastQueuedSelectionPolicy
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 대기 작업 수(실행 중 작업 포함)가 가장 적은 executor 를 선택하는 정책
+ * - 동률이면 고정 executor 를 우선하여 불필요한 이동을 줄임
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class LeastQueuedSelectionPolicy implements ExecutorSelectionPolicy {
+
+    @Override
+    public int select(JobExecutor[] jobExecutors, int pinnedIndex) {
+        int selectedIndex = pinnedIndex;
+        int minLoad = jobExecutors[pinnedIndex].getOutstandingJobCount();
+
+        for (int i = 0; i < jobExecutors.length && minLoad > 0; i++) {
+            int load = jobExecutors[i].getOutstandingJobCount();
+            if (load < minLoad) {
+                minLoad = load;
+                selectedIndex = i;
+            }
+        }
+        return selectedIndex;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy
+ * fileName       : PowerOfTwoChoicesSelectionPolicy
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 임의의 두 executor 를 골라 대기 작업 수가 적은 쪽을 선택하는 정책
+ * - executor 수와 무관하게 두 개만 조회하므로 executor 가 많을 때 LEAST_QUEUED 보다 저렴함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class PowerOfTwoChoicesSelectionPolicy implements ExecutorSelectionPolicy {
+
+    @Override
+    public int select(JobExecutor[] jobExecutors, int pinnedIndex) {
+        int executorCount = jobExecutors.length;
+        if (executorCount <= 1) {
+            return 0;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(executorCount);
+        int second = random.nextInt(executorCount - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        return (jobExecutors[second].getOutstandingJobCount() < jobExecutors[first].getOutstandingJobCount()) ?
+                second : first;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy
+ * fileName       : RoundRobinSelectionPolicy
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 예약 시점에 Round-Robin 으로 고정된 executor 를 그대로 사용하는 정책
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class RoundRobinSelectionPolicy implements ExecutorSelectionPolicy {
+
+    @Override
+    public int select(JobExecutor[] jobExecutors, int pinnedIndex) {
+        return pinnedIndex;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue
+ * fileName       : EarliestDeadlineJobDispatchQueue
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : EDF(Earliest Deadline First) 대기 큐
+ * - 시작 기한(start deadline)이 있는 작업을 기한이 가까운 순서로 먼저 반출
+ * - 기한이 없는 작업은 그 뒤에 priority 순서로 반출 (같으면 적재 순서)
+ * - 같은 Job 이 여러 회차 대기할 수 있으므로 회차별 기한(JobDispatchEntry)을 기준으로 정렬
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class EarliestDeadlineJobDispatchQueue implements JobDispatchQueue {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private final PriorityBlockingQueue<Entry> entryQueue;
+    private final AtomicLong sequence = new AtomicLong(0);
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public EarliestDeadlineJobDispatchQueue(int initialCapacity) {
+        entryQueue = new PriorityBlockingQueue<>(Math.max(1, initialCapacity));
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    @Override
+    public boolean offer(JobDispatchEntry dispatchEntry) {
+        boolean hasDeadline = dispatchEntry.getJob().getStartDeadlineNanos() > 0;
+        return entryQueue.offer(new Entry(
+                dispatchEntry,
+                hasDeadline,
+                hasDeadline ? dispatchEntry.getStartDeadlineNanoTime() : 0,
+                sequence.getAndIncrement()
+        ));
+    }
+
+    @Override
+    public JobDispatchEntry poll() {
+        Entry entry = entryQueue.poll();
+        return (entry != null) ? entry.dispatchEntry : null;
+    }
+
+    @Override
+    public void clear() {
+        entryQueue.clear();
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final class Entry implements Comparable<Entry> {
+
+        private final JobDispatchEntry dispatchEntry;
+        private final boolean hasDeadline;
+        private final long deadlineNanoTime;
+        private final int priority;
+        private final long sequence;
+
+        private Entry(JobDispatchEntry dispatchEntry, boolean hasDeadline, long deadlineNanoTime, long sequence) {
+            this.dispatchEntry = dispatchEntry;
+            this.hasDeadline = hasDeadline;
+            this.deadlineNanoTime = deadlineNanoTime;
+            this.priority = dispatchEntry.getJob().getPriority();
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (hasDeadline != other.hasDeadline) {
+                return hasDeadline ? -1 : 1;
+            }
+            if (hasDeadline) {
+                // System.nanoTime 값은 overflow 될 수 있으므로 차이로 비교
+                long diff = deadlineNanoTime - other.deadlineNanoTime;
+                if (diff != 0) {
+                    return (diff < 0) ? -1 : 1;
+                }
+            }
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
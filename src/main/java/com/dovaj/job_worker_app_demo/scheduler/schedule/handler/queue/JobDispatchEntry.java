@@ -0,0 +1,41 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue
+ * fileName       : JobDispatchEntry
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobExecutor 대기 큐에 적재된 회차 하나
+ * - 같은 Job 이 여러 회차 대기할 수 있으므로, 회차마다 다른 값은 Job 이 아닌 항목에 고정하여 보관
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public final class JobDispatchEntry {
+
+    private final Job job;
+    private final long enqueueNanoTime; // 이 회차의 적재 시각 (스케줄러 시계 기준)
+    private final long startDeadlineNanoTime; // 이 회차의 시작 기한 (스케줄러 시계 기준, 작업에 기한이 없으면 무시)
+
+    public JobDispatchEntry(Job job, long enqueueNanoTime, long startDeadlineNanoTime) {
+        this.job = job;
+        this.enqueueNanoTime = enqueueNanoTime;
+        this.startDeadlineNanoTime = startDeadlineNanoTime;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public long getEnqueueNanoTime() {
+        return enqueueNanoTime;
+    }
+
+    public long getStartDeadlineNanoTime() {
+        return startDeadlineNanoTime;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_QUEUE_TYPE;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue
+ * fileName       : JobDispatchQueue
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobExecutor 대기 큐 인터페이스
+ * - 대기/깨우기는 JobExecutor 가 담당하므로 큐는 비차단 연산만 제공
+ * - 여러 쓰레드(타이머, work stealing peer)가 동시에 offer / poll 할 수 있어야 함
+ * - 회차별 값(적재 시각, 시작 기한 등)을 함께 보관하도록 Job 대신 JobDispatchEntry 단위로 적재 / 반출
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface JobDispatchQueue {
+
+    boolean offer(JobDispatchEntry entry);
+
+    /**
+     * @return 다음 실행할 회차, 없으면 null
+     */
+    JobDispatchEntry poll();
+
+    void clear();
+
+    static JobDispatchQueue of(DISPATCH_QUEUE_TYPE dispatchQueueType, int queueSize, int agingInterval) {
+        if (dispatchQueueType == null) {
+            return new PriorityHeapJobDispatchQueue(queueSize);
+        }
+
+        switch (dispatchQueueType) {
+            case PRIORITY_BUCKET:
+                return new PriorityBucketJobDispatchQueue(agingInterval);
+            case EARLIEST_DEADLINE_FIRST:
+                return new EarliestDeadlineJobDispatchQueue(queueSize);
+            case PRIORITY_HEAP:
+            default:
+                return new PriorityHeapJobDispatchQueue(queueSize);
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue
+ * fileName       : PriorityBucketJobDispatchQueue
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 우선순위별 lock-free FIFO 레인 기반 다단계 대기 큐
+ * - priority 값(0 ~ 63, 범위 밖은 양 끝으로 보정)마다 ConcurrentLinkedQueue 레인 하나를 둠
+ * - 비어있지 않은 레인을 64bit bitmap 으로 관리하여 최우선 레인을 numberOfTrailingZeros 한 번으로 찾음
+ * - 적재 / 반출 모두 O(1), 같은 우선순위 안에서는 FIFO 순서 보장
+ * - agingInterval > 0 이면 반출 agingInterval 회마다 한 번씩 낮은 우선순위 레인을 순환하며 먼저 처리 (기아 방지)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class PriorityBucketJobDispatchQueue implements JobDispatchQueue {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public static final int LANE_COUNT = Long.SIZE;
+
+    private final ConcurrentLinkedQueue<JobDispatchEntry>[] lanes;
+    private final AtomicLong nonEmptyLaneBitmap = new AtomicLong(0);
+
+    private final int agingInterval;
+    private final AtomicLong pollCount = new AtomicLong(0);
+    private volatile int lastAgedLane = 0;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public PriorityBucketJobDispatchQueue() {
+        this(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public PriorityBucketJobDispatchQueue(int agingInterval) {
+        this.agingInterval = Math.max(0, agingInterval);
+
+        lanes = (ConcurrentLinkedQueue<JobDispatchEntry>[]) new ConcurrentLinkedQueue<?>[LANE_COUNT];
+        for (int i = 0; i < LANE_COUNT; i++) {
+            lanes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    @Override
+    public boolean offer(JobDispatchEntry entry) {
+        int lane = toLane(entry.getJob().getPriority());
+        lanes[lane].offer(entry);
+
+        // 레인에 넣은 뒤 bit 를 세워야 poll 쪽의 "bit 해제 후 재확인" 과 맞물려 유실이 없음
+        long laneBit = 1L << lane;
+        if ((nonEmptyLaneBitmap.get() & laneBit) == 0) {
+            nonEmptyLaneBitmap.getAndAccumulate(laneBit, (cur, bit) -> cur | bit);
+        }
+        return true;
+    }
+
+    @Override
+    public JobDispatchEntry poll() {
+        for (; ; ) {
+            long bitmap = nonEmptyLaneBitmap.get();
+            if (bitmap == 0) {
+                return null;
+            }
+
+            int lane = Long.numberOfTrailingZeros(bitmap);
+            if (agingInterval > 0 && (pollCount.incrementAndGet() % agingInterval) == 0) {
+                lane = selectAgedLane(bitmap, lane);
+            }
+
+            JobDispatchEntry entry = lanes[lane].poll();
+            if (entry != null) {
+                return entry;
+            }
+
+            // 레인이 비었으면 bit 를 내리고, 그 사이 들어온 작업이 있으면 다시 세움
+            long laneBit = 1L << lane;
+            nonEmptyLaneBitmap.getAndAccumulate(~laneBit, (cur, mask) -> cur & mask);
+            if (!lanes[lane].isEmpty()) {
+                nonEmptyLaneBitmap.getAndAccumulate(laneBit, (cur, bit) -> cur | bit);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (ConcurrentLinkedQueue<JobDispatchEntry> lane : lanes) {
+            lane.clear();
+        }
+        nonEmptyLaneBitmap.set(0);
+    }
+
+    public int getAgingInterval() {
+        return agingInterval;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static int toLane(int priority) {
+        if (priority < 0) {
+            return 0;
+        }
+        return Math.min(priority, LANE_COUNT - 1);
+    }
+
+    /**
+     * 최우선 레인을 제외한 비어있지 않은 레인 중, 직전에 aging 으로 처리한 레인 다음 레인을 선택
+     */
+    private int selectAgedLane(long bitmap, int topLane) {
+        long lowerLanes = bitmap & ~(1L << topLane);
+        if (lowerLanes == 0) {
+            return topLane;
+        }
+
+        int startLane = lastAgedLane + 1;
+        long candidates = (startLane >= LANE_COUNT) ? 0 : (lowerLanes & (-1L << startLane));
+        int agedLane = Long.numberOfTrailingZeros((candidates != 0) ? candidates : lowerLanes);
+        lastAgedLane = agedLane;
+        return agedLane;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
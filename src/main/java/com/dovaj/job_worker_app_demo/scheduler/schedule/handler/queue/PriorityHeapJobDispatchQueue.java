@@ -0,0 +1,43 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler.queue
+ * fileName       : PriorityHeapJobDispatchQueue
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : PriorityBlockingQueue 기반 대기 큐 (priority 값이 작을수록 먼저 실행)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class PriorityHeapJobDispatchQueue implements JobDispatchQueue {
+
+    private final PriorityBlockingQueue<JobDispatchEntry> priorityQueue;
+
+    public PriorityHeapJobDispatchQueue(int initialCapacity) {
+        priorityQueue = new PriorityBlockingQueue<>(
+                Math.max(1, initialCapacity),
+                Comparator.comparingInt((JobDispatchEntry entry) -> entry.getJob().getPriority())
+        );
+    }
+
+    @Override
+    public boolean offer(JobDispatchEntry entry) {
+        return priorityQueue.offer(entry);
+    }
+
+    @Override
+    public JobDispatchEntry poll() {
+        return priorityQueue.poll();
+    }
+
+    @Override
+    public void clear() {
+        priorityQueue.clear();
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.limiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.limiter
+ * fileName       : TokenBucketRateLimiter
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : lock-free 토큰 버킷 실행 횟수 제한 클래스
+ * - 초당 permitsPerSecond 개의 토큰이 채워지고, 최대 burst 개까지 한 번에 소비 가능
+ * - 토큰 수 대신 "다음 토큰이 이론상 도착하는 시각(TAT)" 하나만 CAS 로 갱신 (GCRA, 토큰 버킷과 동일한 동작)
+ * - 대기하지 않고 토큰이 생길 때까지 남은 시간만 반환하므로 타이머 쓰레드에서 호출해도 안전
+ * - reserve 는 토큰이 없으면 미래의 토큰을 미리 예약하므로, 지연된 호출자들이 같은 시각에 몰려 재시도하지 않음
+ * - 예약한 토큰을 쓰지 않게 되면 release 로 반납 (TAT 를 토큰 하나만큼 되돌림)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class TokenBucketRateLimiter {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long emissionIntervalNanos; // 토큰 하나가 채워지는 시간
+    private final long burstToleranceNanos; // burst 만큼 앞당겨 소비할 수 있는 시간
+
+    private final AtomicLong theoreticalArrivalNanoTime;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @param permitsPerSecond 초당 허용 실행 수 (0 보다 커야 함)
+     * @param burst            한 번에 허용할 최대 실행 수 (1 미만이면 1)
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System.nanoTime());
+    }
+
+    /**
+     * @param startNanoTime 버킷이 가득 찬 상태가 되는 시각 (tryAcquire 에 넘길 시각과 같은 시계 기준)
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, long startNanoTime) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive. (" + permitsPerSecond + ")");
+        }
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (this.burst - 1);
+
+        // 시작 시점에 버킷이 가득 찬 상태
+        theoreticalArrivalNanoTime = new AtomicLong(startNanoTime - burstToleranceNanos);
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * 토큰 하나 소비 시도
+     *
+     * @param nowNanoTime 현재 시각 (System.nanoTime)
+     * @return 소비했으면 0, 아니면 다음 토큰까지 남은 시간 (nano)
+     */
+    public long tryAcquire(long nowNanoTime) {
+        for (; ; ) {
+            long tat = theoreticalArrivalNanoTime.get();
+            long allowAt = tat - burstToleranceNanos;
+            if (nowNanoTime - allowAt < 0) {
+                return allowAt - nowNanoTime;
+            }
+
+            long newTat = ((tat - nowNanoTime) > 0 ? tat : nowNanoTime) + emissionIntervalNanos;
+            if (theoreticalArrivalNanoTime.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 토큰 하나 예약
+     * - 토큰이 없으면 다음 빈 토큰을 미리 소비하고 그 시각까지 남은 시간을 반환 (그 시각에 재확인 없이 진행하면 됨)
+     * - 예약은 뒤로 쌓이므로 호출자는 예약 수를 따로 제한해야 함 (JobScheduler 는 작업당 한 회차만 지연)
+     *
+     * @param nowNanoTime 현재 시각 (tryAcquire 와 같은 시계 기준)
+     * @return 바로 진행 가능하면 0, 아니면 예약한 토큰까지 남은 시간 (nano)
+     */
+    public long reserve(long nowNanoTime) {
+        for (; ; ) {
+            long tat = theoreticalArrivalNanoTime.get();
+            long baseTat = (tat - nowNanoTime) > 0 ? tat : nowNanoTime;
+            if (theoreticalArrivalNanoTime.compareAndSet(tat, baseTat + emissionIntervalNanos)) {
+                long allowAt = tat - burstToleranceNanos;
+                return (nowNanoTime - allowAt < 0) ? allowAt - nowNanoTime : 0;
+            }
+        }
+    }
+
+    /**
+     * 예약(또는 소비)한 토큰 하나 반납
+     * - 실행하지 않고 버린 회차의 토큰을 돌려주어, 그 뒤의 호출자가 쓸 수 있게 함
+     * - 버킷이 이미 가득 찬 상태면 아무것도 하지 않음 (burst 를 넘어 쌓이지 않음)
+     *
+     * @param nowNanoTime 현재 시각 (reserve 와 같은 시계 기준)
+     */
+    public void release(long nowNanoTime) {
+        for (; ; ) {
+            long tat = theoreticalArrivalNanoTime.get();
+            if (tat - nowNanoTime <= 0) {
+                return;
+            }
+
+            long newTat = (tat - emissionIntervalNanos - nowNanoTime > 0) ? tat - emissionIntervalNanos : nowNanoTime;
+            if (theoreticalArrivalNanoTime.compareAndSet(tat, newTat)) {
+                return;
+            }
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public String toString() {
+        return "TokenBucketRateLimiter{" +
+                "permitsPerSecond=" + permitsPerSecond +
+                ", burst=" + burst +
+                '}';
+    }
+
+}
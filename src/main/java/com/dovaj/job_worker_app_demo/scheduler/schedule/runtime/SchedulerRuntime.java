@@ -0,0 +1,227 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.runtime;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.clock.SchedulerClock;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.HashedWheelTimer;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimer;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.runtime
+ * fileName       : SchedulerRuntime
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 여러 ScheduleManager 가 공유하는 프로세스 단위 스케줄러 런타임 클래스
+ * - 전체 쓰레드 수(threadCount)를 고정하고, 모든 단위의 JobExecutor 를 논리적인 레인(mailbox)으로 다중화
+ * - 작업이 들어온 레인만 준비 큐에 한 번 등록되며, 런타임 쓰레드가 레인을 꺼내 최대 throughput 개까지 처리 후 반납
+ * - 레인은 한 번에 하나의 쓰레드만 처리하므로 단위별 동시 실행 수는 poolSize(레인 수) 를 넘지 않음 (단위 간 격리)
+ * - 타이밍 휠도 하나만 두고 모든 단위가 공유
+ * - 수동 구동 런타임(threadCount = 0)은 쓰레드 없이 호출자가 pollReadyLane 으로 레인을 꺼내 처리 (가상 시간 시뮬레이션용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class SchedulerRuntime {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerRuntime.class);
+
+    public static final int DEFAULT_THROUGHPUT = 16;
+
+    private final String name;
+    private final int threadCount;
+    private final int throughput;
+
+    private final JobTimer jobTimer;
+    private final SchedulerClock clock;
+    private final LinkedBlockingQueue<JobExecutor> readyLanes = new LinkedBlockingQueue<>();
+    private final Thread[] workerThreads;
+    private final AtomicBoolean isRunning = new AtomicBoolean(true);
+    private final AtomicLong laneTurnCount = new AtomicLong(0);
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public SchedulerRuntime(String name, int threadCount) {
+        this(name, threadCount, DEFAULT_THROUGHPUT);
+    }
+
+    /**
+     * @param threadCount 전체 작업 실행 쓰레드 수 (0 이하면 CPU 코어 수)
+     * @param throughput  레인 하나를 잡았을 때 반납 전까지 처리할 최대 작업 수 (공정성)
+     */
+    public SchedulerRuntime(String name, int threadCount, int throughput) {
+        this(name, threadCount, throughput, HashedWheelTimer.DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * @param threadCount     전체 작업 실행 쓰레드 수 (0 이하면 CPU 코어 수)
+     * @param throughput      레인 하나를 잡았을 때 반납 전까지 처리할 최대 작업 수 (공정성)
+     * @param timerTickMillis 공유 타이머의 tick (주기가 이보다 짧으면 tick 으로 올림, 최소 1ms)
+     */
+    public SchedulerRuntime(String name, int threadCount, int throughput, long timerTickMillis) {
+        this.name = name;
+        this.threadCount = (threadCount > 0) ? threadCount : Runtime.getRuntime().availableProcessors();
+        this.throughput = Math.max(1, throughput);
+
+        jobTimer = new HashedWheelTimer(name + "_JobTimer",
+                Math.max(1L, timerTickMillis), TimeUnit.MILLISECONDS, HashedWheelTimer.DEFAULT_WHEEL_SIZE);
+        clock = SchedulerClock.SYSTEM;
+
+        ThreadFactory threadFactory = new BasicThreadFactory
+                .Builder()
+                .namingPattern(name + "_Worker-%d")
+                .daemon(true)
+                .build();
+        workerThreads = new Thread[this.threadCount];
+        for (int i = 0; i < this.threadCount; i++) {
+            workerThreads[i] = threadFactory.newThread(new Worker());
+            workerThreads[i].start();
+        }
+
+        logger.info("[SchedulerRuntime({})] is started. (threadCount={}, throughput={}, tickNanos={})",
+                name, this.threadCount, this.throughput, jobTimer.getTickNanos());
+    }
+
+    /**
+     * 수동 구동 런타임 생성
+     * - 실행 쓰레드를 만들지 않으며, 호출자가 pollReadyLane 으로 꺼낸 레인의 drain 을 직접 호출
+     * - 이 런타임 위의 단위들은 주어진 타이머와 시계를 사용
+     *
+     * @param jobTimer 모든 단위가 공유할 타이머 (stop() 에서 함께 멈춤)
+     * @param clock    executor 적재/실행 시각을 읽을 시계
+     */
+    public SchedulerRuntime(String name, JobTimer jobTimer, SchedulerClock clock) {
+        if (jobTimer == null || clock == null) {
+            throw new NullPointerException("jobTimer and clock must not be null.");
+        }
+
+        this.name = name;
+        this.threadCount = 0;
+        this.throughput = 1;
+        this.jobTimer = jobTimer;
+        this.clock = clock;
+        workerThreads = new Thread[0];
+
+        logger.info("[SchedulerRuntime({})] is started. (manual)", name);
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * 작업이 적재된 레인을 준비 큐에 등록
+     * - JobExecutor 가 레인 예약 플래그를 선점한 경우에만 호출하므로 같은 레인이 중복 등록되지 않음
+     */
+    public void submit(JobExecutor lane) {
+        if (!isRunning.get()) {
+            return;
+        }
+        readyLanes.offer(lane);
+    }
+
+    /**
+     * 수동 구동 런타임에서 처리할 레인을 하나 꺼냄 (기다리지 않음)
+     *
+     * @return 작업이 적재된 레인, 없으면 null
+     */
+    public JobExecutor pollReadyLane() {
+        return readyLanes.poll();
+    }
+
+    public void stop() {
+        if (!isRunning.compareAndSet(true, false)) {
+            return;
+        }
+
+        jobTimer.stop();
+        for (Thread workerThread : workerThreads) {
+            workerThread.interrupt();
+        }
+        readyLanes.clear();
+        logger.info("[SchedulerRuntime({})] is stopped.", name);
+    }
+
+    public boolean isRunning() {
+        return isRunning.get();
+    }
+
+    public JobTimer getJobTimer() {
+        return jobTimer;
+    }
+
+    public SchedulerClock getClock() {
+        return clock;
+    }
+
+    public boolean isManual() {
+        return workerThreads.length == 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getThroughput() {
+        return throughput;
+    }
+
+    public int getReadyLaneCount() {
+        return readyLanes.size();
+    }
+
+    public long getLaneTurnCount() {
+        return laneTurnCount.get();
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            while (isRunning.get()) {
+                JobExecutor lane;
+                try {
+                    lane = readyLanes.take();
+                } catch (InterruptedException e) {
+                    if (!isRunning.get()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                laneTurnCount.incrementAndGet();
+                try {
+                    lane.drain(throughput);
+                } catch (Exception e) {
+                    logger.warn("[SchedulerRuntime({})] Fail to drain the lane. ({})", name, lane.getIndex(), e);
+                }
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public String toString() {
+        return "SchedulerRuntime{" +
+                "name='" + name + '\'' +
+                ", threadCount=" + threadCount +
+                ", throughput=" + throughput +
+                ", readyLanes=" + readyLanes.size() +
+                '}';
+    }
+
+}
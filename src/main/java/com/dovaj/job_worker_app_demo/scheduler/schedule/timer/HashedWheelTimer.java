@@ -0,0 +1,413 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.timer;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.timer
+ * fileName       : HashedWheelTimer
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 해시 타이밍 휠 기반 공용 타이머 클래스
+ * - 하나의 ticker 쓰레드가 등록된 모든 반복/1회성 작업을 발화
+ * - 등록/취소는 O(1) (등록은 대기 큐 추가, 취소는 버킷 이중 연결 리스트 제거)
+ * - 정밀도는 tick 간격 단위이며, tick 보다 짧은 간격은 tick 으로 올림 처리
+ * - 발화된 작업은 ticker 쓰레드에서 바로 실행되므로 가벼운 작업(큐 적재 등)만 등록해야 함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class HashedWheelTimer implements JobTimer {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int WORKER_STATE_INIT = 0;
+    private static final int WORKER_STATE_STARTED = 1;
+    private static final int WORKER_STATE_STOPPED = 2;
+
+    private final String name;
+    private final long tickNanos;
+    private final WheelBucket[] wheel;
+    private final int mask;
+    private final Thread workerThread;
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_STATE_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeoutCount = new AtomicLong(0);
+
+    // worker 쓰레드 전용 (반복 작업 재등록 대기열, tick 카운터)
+    private final ArrayDeque<WheelTimeout> rescheduledTimeouts = new ArrayDeque<>();
+    private long tick = 0;
+    private long expiringDeadline = 0; // 발화 중인 작업의 의도된 발화 시각 (startTime 기준 상대 nano time)
+
+    private volatile long startTime = 0;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public HashedWheelTimer(String name) {
+        this(name, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive. (" + tickDuration + ")");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be in (0, 2^30]. (" + wheelSize + ")");
+        }
+
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+
+        // 인덱스 계산을 비트 마스크로 하기 위해 2의 거듭제곱으로 올림
+        int normalizedWheelSize = 1;
+        while (normalizedWheelSize < wheelSize) {
+            normalizedWheelSize <<= 1;
+        }
+        wheel = new WheelBucket[normalizedWheelSize];
+        for (int i = 0; i < normalizedWheelSize; i++) {
+            wheel[i] = new WheelBucket();
+        }
+        mask = normalizedWheelSize - 1;
+
+        workerThread = new BasicThreadFactory
+                .Builder()
+                .namingPattern(name)
+                .daemon(true)
+                .build()
+                .newThread(new Worker());
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * 작업 예약
+     *
+     * @param task         발화 시 ticker 쓰레드에서 실행할 작업
+     * @param initialDelay 최초 발화까지의 지연
+     * @param period       반복 주기 (0 이하면 1회 실행)
+     * @param unit         시간 단위
+     * @return 취소 가능한 핸들
+     */
+    @Override
+    public WheelTimeout schedule(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (task == null || unit == null) {
+            throw new NullPointerException("task and unit must not be null.");
+        }
+
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0L, initialDelay)) - startTime;
+        long periodNanos = (period > 0) ? Math.max(unit.toNanos(period), tickNanos) : 0;
+
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline, periodNanos);
+        pendingTimeoutCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 작업 일괄 예약
+     * - 시작 확인과 대기 큐 추가를 한 번에 처리 (대기 큐에는 한 번의 CAS 로 연결됨)
+     *
+     * @param tasks             발화 시 ticker 쓰레드에서 실행할 작업 목록
+     * @param initialDelayNanos 작업별 최초 발화까지의 지연 (nano)
+     * @param periodNanos       작업별 반복 주기 (nano, 0 이하면 1회 실행)
+     * @return tasks 와 같은 순서의 취소 가능한 핸들 목록
+     */
+    @Override
+    public List<WheelTimeout> scheduleAll(List<Runnable> tasks, long[] initialDelayNanos, long[] periodNanos) {
+        int taskCount = tasks.size();
+        if (initialDelayNanos.length < taskCount || periodNanos.length < taskCount) {
+            throw new IllegalArgumentException("initialDelayNanos and periodNanos must cover all tasks.");
+        }
+
+        List<WheelTimeout> timeouts = new ArrayList<>(taskCount);
+        if (taskCount == 0) {
+            return timeouts;
+        }
+
+        start();
+
+        long now = System.nanoTime() - startTime;
+        for (int i = 0; i < taskCount; i++) {
+            Runnable task = tasks.get(i);
+            if (task == null) {
+                throw new NullPointerException("task must not be null. (index=" + i + ")");
+            }
+
+            long periodNano = (periodNanos[i] > 0) ? Math.max(periodNanos[i], tickNanos) : 0;
+            timeouts.add(new WheelTimeout(this, task, now + Math.max(0L, initialDelayNanos[i]), periodNano));
+        }
+
+        pendingTimeoutCount.addAndGet(taskCount);
+        pendingTimeouts.addAll(timeouts);
+        return timeouts;
+    }
+
+    @Override
+    public void stop() {
+        if (workerState.getAndSet(WORKER_STATE_STOPPED) != WORKER_STATE_STARTED) {
+            return;
+        }
+
+        workerThread.interrupt();
+        logger.info("[HashedWheelTimer({})] is stopped. (pending={})", name, pendingTimeoutCount.get());
+    }
+
+    /**
+     * 발화 중인 작업의 의도된 발화 시각 (System.nanoTime 기준)
+     * - 타이머 쓰레드에서 실행되는 작업 안에서만 유효
+     */
+    @Override
+    public long getExpiringDeadlineNanoTime() {
+        return startTime + expiringDeadline;
+    }
+
+    @Override
+    public long getPendingTimeoutCount() {
+        return pendingTimeoutCount.get();
+    }
+
+    @Override
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_STATE_INIT:
+                if (workerState.compareAndSet(WORKER_STATE_INIT, WORKER_STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("HashedWheelTimer(" + name + ") is already stopped.");
+        }
+
+        // worker 쓰레드가 startTime 을 초기화할 때까지 대기
+        // (대기 중 interrupt 를 바로 복원하면 await 가 즉시 다시 던져 busy-spin 하므로 끝난 뒤 복원)
+        boolean isInterrupted = false;
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void addCancelledTimeout(WheelTimeout timeout) {
+        cancelledTimeouts.add(timeout);
+    }
+
+    void runTask(Runnable task, long deadline) {
+        expiringDeadline = deadline;
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.warn("[HashedWheelTimer({})] Fail to run the timer task.", name, t);
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private final class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            startTime = (now == 0) ? 1 : now;
+            startTimeInitialized.countDown();
+
+            while (workerState.get() == WORKER_STATE_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline <= 0) {
+                    continue;
+                }
+
+                processCancelledTimeouts();
+                transferTimeoutsToBuckets();
+                wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+            }
+        }
+
+        private void transferTimeoutsToBuckets() {
+            // 반복 작업 재등록은 대기 큐보다 먼저 처리 (발화 순서 유지)
+            WheelTimeout timeout;
+            while ((timeout = rescheduledTimeouts.poll()) != null) {
+                placeTimeout(timeout);
+            }
+
+            // 한 tick 에 너무 많은 작업을 옮겨 worker 가 지연되지 않도록 상한을 둠
+            for (int i = 0; i < 100000; i++) {
+                timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.isCancelled()) {
+                    pendingTimeoutCount.decrementAndGet();
+                    continue;
+                }
+                placeTimeout(timeout);
+            }
+        }
+
+        private void placeTimeout(WheelTimeout timeout) {
+            if (timeout.isCancelled()) {
+                pendingTimeoutCount.decrementAndGet();
+                return;
+            }
+
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+            // 이미 지난 시각이면 현재 tick 에 배치하여 즉시 발화
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+
+        private void processCancelledTimeouts() {
+            WheelTimeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.remove();
+                    pendingTimeoutCount.decrementAndGet();
+                }
+            }
+        }
+
+        private long waitForNextTick() {
+            long deadline = tickNanos * (tick + 1);
+
+            for (; ; ) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMs = (deadline - currentTime + 999999) / 1000000;
+                if (sleepTimeMs <= 0) {
+                    return (currentTime <= 0) ? 1 : currentTime;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException e) {
+                    if (workerState.get() == WORKER_STATE_STOPPED) {
+                        return -1;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 휠의 한 칸. worker 쓰레드에서만 접근하는 이중 연결 리스트
+     */
+    final class WheelBucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        if (timeout.expire()) {
+                            rescheduledTimeouts.add(timeout);
+                        } else {
+                            pendingTimeoutCount.decrementAndGet();
+                        }
+                    } else {
+                        // 배치 로직상 발생하지 않아야 하지만, 다음 tick 에 재배치
+                        rescheduledTimeouts.add(timeout);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                    pendingTimeoutCount.decrementAndGet();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public String toString() {
+        return "HashedWheelTimer{" +
+                "name='" + name + '\'' +
+                ", tickNanos=" + tickNanos +
+                ", wheelSize=" + wheel.length +
+                ", pending=" + pendingTimeoutCount.get() +
+                '}';
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.timer;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.timer
+ * fileName       : JobTimeout
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobTimer 에 등록된 예약 작업 핸들 인터페이스
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface JobTimeout {
+
+    /**
+     * @return 이번 호출로 취소되었으면 true (이미 취소/만료된 경우 false)
+     */
+    boolean cancel();
+
+    boolean isCancelled();
+
+    boolean isExpired();
+
+    boolean isPeriodic();
+
+    long getPeriodNanos();
+
+}
@@ -0,0 +1,55 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.timer
+ * fileName       : JobTimer
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobScheduler 가 작업 발화에 사용하는 타이머 인터페이스
+ * - HashedWheelTimer : 실제 시간 기준 (ticker 쓰레드)
+ * - VirtualJobTimer  : 가상 시간 기준 (호출자가 advanceTo 로 진행, 시뮬레이션용)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public interface JobTimer {
+
+    /**
+     * 작업 예약
+     *
+     * @param task         발화 시 타이머 쓰레드에서 실행할 작업
+     * @param initialDelay 최초 발화까지의 지연
+     * @param period       반복 주기 (0 이하면 1회 실행)
+     * @param unit         시간 단위
+     * @return 취소 가능한 핸들
+     */
+    JobTimeout schedule(Runnable task, long initialDelay, long period, TimeUnit unit);
+
+    /**
+     * 작업 일괄 예약
+     *
+     * @return tasks 와 같은 순서의 취소 가능한 핸들 목록
+     */
+    List<? extends JobTimeout> scheduleAll(List<Runnable> tasks, long[] initialDelayNanos, long[] periodNanos);
+
+    /**
+     * 발화 중인 작업의 의도된 발화 시각 (타이머가 쓰는 시계 기준)
+     * - 타이머 쓰레드에서 실행되는 작업 안에서만 유효
+     */
+    long getExpiringDeadlineNanoTime();
+
+    long getPendingTimeoutCount();
+
+    /**
+     * 발화 시각의 정밀도 (nano), 이보다 짧은 주기는 이 값으로 올려서 발화
+     * - 0 이면 예약한 시각에 정확히 발화
+     */
+    long getTickNanos();
+
+    void stop();
+
+}
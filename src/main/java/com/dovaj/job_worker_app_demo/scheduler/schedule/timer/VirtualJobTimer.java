@@ -0,0 +1,330 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.timer;
+
+import com.dovaj.job_worker_app_demo.scheduler.schedule.clock.VirtualSchedulerClock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.timer
+ * fileName       : VirtualJobTimer
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 가상 시계 기준으로 동작하는 타이머 클래스 (시뮬레이션용)
+ * - 자체 쓰레드 없이 advanceTo 를 호출한 쓰레드에서 발화 시각 순서대로 작업을 실행
+ * - 발화 직전에 가상 시계를 해당 발화 시각으로 옮기므로, 작업 안에서 읽는 시각은 의도된 발화 시각과 같음
+ * - tick 이 없어 발화 시각이 정확하며, 반복 작업은 고정 주기(fixed-rate)로 한 주기도 빠짐없이 발화
+ * - 취소된 작업은 힙에서 바로 빼지 않고 꺼낼 때 버림
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class VirtualJobTimer implements JobTimer {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private final VirtualSchedulerClock clock;
+
+    // 발화 시각 순, 같으면 등록 순
+    private final PriorityQueue<VirtualTimeout> timeouts = new PriorityQueue<>((a, b) -> {
+        int result = Long.compare(a.deadline - b.deadline, 0);
+        return (result != 0) ? result : Long.compare(a.sequence, b.sequence);
+    });
+    private final ReentrantLock timeoutLock = new ReentrantLock();
+    private long lastSequence = 0; // timeoutLock 으로 보호
+
+    private final AtomicLong pendingTimeoutCount = new AtomicLong(0);
+    private final AtomicLong expiredCount = new AtomicLong(0);
+    private volatile boolean isStopped = false;
+    private long expiringDeadline = 0; // advanceTo 호출 쓰레드 전용
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public VirtualJobTimer(VirtualSchedulerClock clock) {
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null.");
+        }
+        this.clock = clock;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    @Override
+    public VirtualTimeout schedule(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (task == null || unit == null) {
+            throw new NullPointerException("task and unit must not be null.");
+        }
+        checkRunning();
+
+        long deadline = clock.nanoTime() + unit.toNanos(Math.max(0L, initialDelay));
+        long periodNanos = (period > 0) ? unit.toNanos(period) : 0;
+
+        VirtualTimeout timeout = new VirtualTimeout(this, task, deadline, periodNanos);
+        timeoutLock.lock();
+        try {
+            offer(timeout);
+        } finally {
+            timeoutLock.unlock();
+        }
+        pendingTimeoutCount.incrementAndGet();
+        return timeout;
+    }
+
+    @Override
+    public List<VirtualTimeout> scheduleAll(List<Runnable> tasks, long[] initialDelayNanos, long[] periodNanos) {
+        int taskCount = tasks.size();
+        if (initialDelayNanos.length < taskCount || periodNanos.length < taskCount) {
+            throw new IllegalArgumentException("initialDelayNanos and periodNanos must cover all tasks.");
+        }
+        checkRunning();
+
+        long now = clock.nanoTime();
+        List<VirtualTimeout> newTimeouts = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Runnable task = tasks.get(i);
+            if (task == null) {
+                throw new NullPointerException("task must not be null. (index=" + i + ")");
+            }
+            newTimeouts.add(new VirtualTimeout(this, task, now + Math.max(0L, initialDelayNanos[i]), Math.max(0L, periodNanos[i])));
+        }
+
+        timeoutLock.lock();
+        try {
+            for (VirtualTimeout timeout : newTimeouts) {
+                offer(timeout);
+            }
+        } finally {
+            timeoutLock.unlock();
+        }
+        pendingTimeoutCount.addAndGet(taskCount);
+        return newTimeouts;
+    }
+
+    /**
+     * targetNanoTime 까지 가상 시간을 진행하며 그 사이에 도래한 작업을 발화 시각 순서대로 실행
+     * - 작업 안에서 새로 예약한 작업도 targetNanoTime 이전이면 이번 호출에서 실행됨
+     *
+     * @return 실행한 작업 수
+     */
+    public long advanceTo(long targetNanoTime) {
+        long expiredTaskCount = 0;
+        VirtualTimeout timeout;
+        while (!isStopped && (timeout = pollExpired(targetNanoTime)) != null) {
+            clock.advanceTo(timeout.deadline);
+            if (timeout.expire()) {
+                expiredTaskCount++;
+            }
+        }
+        clock.advanceTo(targetNanoTime);
+        return expiredTaskCount;
+    }
+
+    public long advanceBy(long nanos) {
+        return advanceTo(clock.nanoTime() + Math.max(0L, nanos));
+    }
+
+    /**
+     * 다음 발화 시각 (대기 중인 작업이 없으면 Long.MAX_VALUE)
+     */
+    public long getNextDeadlineNanoTime() {
+        timeoutLock.lock();
+        try {
+            VirtualTimeout timeout;
+            while ((timeout = timeouts.peek()) != null && timeout.isCancelled()) {
+                timeouts.poll();
+            }
+            return (timeout != null) ? timeout.deadline : Long.MAX_VALUE;
+        } finally {
+            timeoutLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        isStopped = true;
+        timeoutLock.lock();
+        try {
+            timeouts.clear();
+        } finally {
+            timeoutLock.unlock();
+        }
+    }
+
+    @Override
+    public long getExpiringDeadlineNanoTime() {
+        return expiringDeadline;
+    }
+
+    @Override
+    public long getPendingTimeoutCount() {
+        return pendingTimeoutCount.get();
+    }
+
+    /**
+     * 가상 시각에 정확히 발화하므로 0
+     */
+    @Override
+    public long getTickNanos() {
+        return 0;
+    }
+
+    /**
+     * 지금까지 발화한 횟수 (반복 작업은 주기마다 집계)
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    public VirtualSchedulerClock getClock() {
+        return clock;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private void checkRunning() {
+        if (isStopped) {
+            throw new IllegalStateException("VirtualJobTimer is stopped.");
+        }
+    }
+
+    // timeoutLock 을 잡은 상태에서 호출
+    private void offer(VirtualTimeout timeout) {
+        timeout.sequence = ++lastSequence;
+        timeouts.offer(timeout);
+    }
+
+    private VirtualTimeout pollExpired(long targetNanoTime) {
+        timeoutLock.lock();
+        try {
+            VirtualTimeout timeout;
+            while ((timeout = timeouts.peek()) != null) {
+                if (timeout.isCancelled()) {
+                    timeouts.poll();
+                    continue;
+                }
+                if (timeout.deadline - targetNanoTime > 0) {
+                    return null;
+                }
+                return timeouts.poll();
+            }
+            return null;
+        } finally {
+            timeoutLock.unlock();
+        }
+    }
+
+    private void reschedule(VirtualTimeout timeout) {
+        timeoutLock.lock();
+        try {
+            offer(timeout);
+        } finally {
+            timeoutLock.unlock();
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public static final class VirtualTimeout implements JobTimeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<VirtualTimeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(VirtualTimeout.class, "state");
+
+        private final VirtualJobTimer timer;
+        private final Runnable task;
+        private final long periodNanos;
+
+        // timeoutLock 또는 advanceTo 호출 쓰레드에서만 접근
+        private long deadline;
+        private long sequence;
+
+        @SuppressWarnings("unused")
+        private volatile int state = ST_INIT;
+
+        private VirtualTimeout(VirtualJobTimer timer, Runnable task, long deadline, long periodNanos) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingTimeoutCount.decrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return periodNanos > 0;
+        }
+
+        @Override
+        public long getPeriodNanos() {
+            return periodNanos;
+        }
+
+        /**
+         * @return 작업을 실행했으면 true
+         */
+        private boolean expire() {
+            if (!isPeriodic() && !STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            if (isPeriodic() && state != ST_INIT) {
+                return false;
+            }
+
+            timer.expiringDeadline = deadline;
+            timer.expiredCount.incrementAndGet();
+            try {
+                task.run();
+            } catch (Exception e) {
+                // 작업 예외가 시뮬레이션 진행을 멈추지 않도록 무시
+            }
+
+            if (!isPeriodic()) {
+                timer.pendingTimeoutCount.decrementAndGet();
+                return true;
+            }
+
+            // 작업 내부에서 자기 자신을 취소할 수 있으므로 실행 후 상태 재확인
+            if (state == ST_INIT) {
+                deadline += periodNanos;
+                timer.reschedule(this);
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "VirtualTimeout{" +
+                    "deadline=" + deadline +
+                    ", periodNanos=" + periodNanos +
+                    ", state=" + state +
+                    '}';
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
@@ -0,0 +1,128 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.timer;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.timer
+ * fileName       : WheelTimeout
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : HashedWheelTimer 에 등록된 예약 작업 핸들 클래스
+ * - 버킷 내부 이중 연결 리스트의 노드 역할을 겸하므로 취소 시 O(1) 제거 가능
+ * - period > 0 이면 고정 주기(fixed-rate) 반복, 아니면 1회 실행
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public final class WheelTimeout implements JobTimeout {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    private final HashedWheelTimer timer;
+    private final Runnable task;
+    private final long periodNanos;
+
+    // 아래 필드는 timer worker 쓰레드에서만 접근
+    long deadline; // timer 시작 시각 기준 상대 nano time
+    long remainingRounds;
+    WheelTimeout next;
+    WheelTimeout prev;
+    HashedWheelTimer.WheelBucket bucket;
+
+    @SuppressWarnings("unused")
+    private volatile int state = ST_INIT;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    WheelTimeout(HashedWheelTimer timer, Runnable task, long deadline, long periodNanos) {
+        this.timer = timer;
+        this.task = task;
+        this.deadline = deadline;
+        this.periodNanos = periodNanos;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    @Override
+    public boolean cancel() {
+        if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+            return false;
+        }
+
+        // 실제 버킷 제거는 worker 쓰레드가 다음 tick 에서 수행
+        timer.addCancelledTimeout(this);
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state == ST_CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+        return state == ST_EXPIRED;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+        return periodNanos > 0;
+    }
+
+    @Override
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    void remove() {
+        if (bucket != null) {
+            bucket.remove(this);
+        }
+    }
+
+    /**
+     * worker 쓰레드에서 만료된 작업을 실행
+     *
+     * @return 다음 주기로 재등록이 필요하면 true
+     */
+    boolean expire() {
+        if (!isPeriodic()) {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            timer.runTask(task, deadline);
+            return false;
+        }
+
+        if (state != ST_INIT) {
+            return false;
+        }
+        timer.runTask(task, deadline);
+
+        // 작업 내부에서 자기 자신을 취소할 수 있으므로 실행 후 상태 재확인
+        if (state != ST_INIT) {
+            return false;
+        }
+        deadline += periodNanos;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "WheelTimeout{" +
+                "deadline=" + deadline +
+                ", periodNanos=" + periodNanos +
+                ", state=" + state +
+                '}';
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
@@ -2,8 +2,9 @@ package com.dovaj.job_worker_app_demo.scheduler.schedule.unit;
 
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduler;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.JobTimeout;
 
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.unit
@@ -21,7 +22,7 @@ public class JobAdder implements Runnable {
     private final JobScheduler jobScheduler;
     private final Job job;
     private final int executorIndex;
-    ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1);
+    private volatile JobTimeout timeout = null;
 
     public JobAdder(JobScheduler jobScheduler, Job job, int executorIndex) {
         this.jobScheduler = jobScheduler;
@@ -31,30 +32,60 @@ public class JobAdder implements Runnable {
 
     @Override
     public void run() {
-        scheduledThreadPoolExecutor.scheduleAtFixedRate(
-                !job.isLasted() ?
-                        (() -> {
-                            if (isJobFinished(job)) {
-                                jobScheduler.cancel(job);
-                            } else {
-                                job.decCurRemainRunCount();
-                                jobScheduler.addJobToExecutor(executorIndex, job);
-                            }
-                        })
-                        :
-                        (() -> {
-                            if (isJobFinished(job)) {
-                                jobScheduler.cancel(job);
-                            } else {
-                                jobScheduler.addJobToExecutor(executorIndex, job);
-                            }
-                        }),
-                job.getInitialDelay(), job.getInterval(), job.getTimeUnit()
+        // 작업별 타이머 쓰레드 대신 JobScheduler 의 공용 타이머에 등록 (interval <= 0 이면 1회 실행)
+        timeout = jobScheduler.getJobTimer().schedule(
+                newTimerTask(),
+                job.getInitialDelayNanos(), job.getIntervalNanos(), TimeUnit.NANOSECONDS
         );
     }
 
+    /**
+     * 타이머 발화 시 실행할 작업 (일괄 예약 시 JobScheduler 가 직접 타이머에 등록)
+     */
+    public Runnable newTimerTask() {
+        return !job.isLasted() ?
+                (() -> {
+                    if (isJobFinished(job)) {
+                        jobScheduler.complete(job);
+                    } else {
+                        job.decCurRemainRunCount();
+                        jobScheduler.addJobToExecutor(executorIndex, job, jobScheduler.getJobTimer().getExpiringDeadlineNanoTime());
+                        if (isOneShot()) {
+                            jobScheduler.release(job);
+                        }
+                    }
+                })
+                :
+                (() -> {
+                    if (isJobFinished(job)) {
+                        jobScheduler.complete(job);
+                    } else {
+                        jobScheduler.addJobToExecutor(executorIndex, job, jobScheduler.getJobTimer().getExpiringDeadlineNanoTime());
+                    }
+                });
+    }
+
+    public void setTimeout(JobTimeout timeout) {
+        this.timeout = timeout;
+    }
+
     public void stop() {
-        scheduledThreadPoolExecutor.shutdown();
+        JobTimeout curTimeout = timeout;
+        if (curTimeout != null) {
+            curTimeout.cancel();
+        }
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public int getExecutorIndex() {
+        return executorIndex;
+    }
+
+    public boolean isOneShot() {
+        return job.getIntervalNanos() <= 0;
     }
 
     public boolean isJobFinished(Job job) {
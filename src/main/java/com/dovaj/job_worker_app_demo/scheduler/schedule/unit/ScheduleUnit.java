@@ -1,7 +1,15 @@
 package com.dovaj.job_worker_app_demo.scheduler.schedule.unit;
 
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencySnapshot;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutorLoad;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduleResult;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduler;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.unit
@@ -22,13 +30,24 @@ public class ScheduleUnit {
 
     private final String scheduleUnitKey;
 
-    private final int poolSize; // Thread pool size
+    private final int poolSize; // 초기 Thread pool size (탄력적이면 옵션의 min/max 범위로 보정됨)
+    private final ScheduleUnitOption scheduleUnitOption;
     private final JobScheduler jobScheduler;
     ////////////////////////////////////////////////////////////////////////////////
 
     /// /////////////////////////////////////////////////////////////////////////////
     public ScheduleUnit(String key, int poolSize, int queueSize) {
+        this(key, poolSize, queueSize, new ScheduleUnitOption());
+    }
+
+    public ScheduleUnit(String key, int poolSize, int queueSize, ScheduleUnitOption scheduleUnitOption) {
+        this(key, poolSize, queueSize, scheduleUnitOption, null);
+    }
+
+    public ScheduleUnit(String key, int poolSize, int queueSize, ScheduleUnitOption scheduleUnitOption,
+                        SchedulerRuntime schedulerRuntime) {
         this.scheduleUnitKey = key;
+        this.scheduleUnitOption = (scheduleUnitOption != null) ? scheduleUnitOption : new ScheduleUnitOption();
 
         if (poolSize > 0) {
             this.poolSize = poolSize;
@@ -36,7 +55,7 @@ public class ScheduleUnit {
             this.poolSize = DEFAULT_THREAD_COUNT;
         }
 
-        jobScheduler = new JobScheduler(scheduleUnitKey, poolSize, queueSize);
+        jobScheduler = new JobScheduler(scheduleUnitKey, this.poolSize, queueSize, this.scheduleUnitOption, schedulerRuntime);
     }
     ////////////////////////////////////////////////////////////////////////////////
 
@@ -57,6 +76,38 @@ public class ScheduleUnit {
         jobScheduler.cancel(job);
     }
 
+    public List<JobScheduleResult> startJobs(Collection<Job> jobs, boolean isSpreadFirstFire) {
+        if (jobs == null) {
+            return List.of();
+        }
+        for (Job job : jobs) {
+            if (job != null) {
+                job.setScheduleUnitKey(scheduleUnitKey);
+            }
+        }
+
+        List<JobScheduleResult> results = jobScheduler.scheduleAll(jobs, isSpreadFirstFire);
+        for (JobScheduleResult result : results) {
+            // 예약되지 않은 작업은 단위 키를 되돌림 (이미 다른 작업으로 예약된 같은 객체는 그대로 둠)
+            if (!result.isSuccess() && result.getJob() != null && result.getJob().getHandle() == 0) {
+                result.getJob().setScheduleUnitKey(null);
+            }
+        }
+        return results;
+    }
+
+    public List<JobScheduleResult> stopJobs(Collection<Job> jobs) {
+        if (jobs == null) {
+            return List.of();
+        }
+        for (Job job : jobs) {
+            if (job != null) {
+                job.setScheduleUnitKey(null);
+            }
+        }
+        return jobScheduler.cancelAll(jobs);
+    }
+
     public void stopAll() {
         jobScheduler.stop();
     }
@@ -67,6 +118,59 @@ public class ScheduleUnit {
         return jobScheduler.getScheduledJobCount();
     }
 
+    /**
+     * executor 별 부하 지표 (대기 작업 수, 실행 중 여부, 완료 수, stealing 수, 평균 실행 시간)
+     */
+    public List<JobExecutorLoad> getExecutorLoads() {
+        return jobScheduler.getExecutorLoads();
+    }
+
+    /**
+     * executor 큐에 대기 중인 회차 수 (단위 전체)
+     */
+    public int getQueuedJobCount() {
+        return jobScheduler.getQueuedJobCount();
+    }
+
+    /**
+     * overrun 정책에 의해 적재되지 않은 주기 수 (단위 전체)
+     */
+    public long getMissedTickCount() {
+        return jobScheduler.getMissedTickCount();
+    }
+
+    /**
+     * 실행 횟수 제한으로 지연된 회차 수 (단위 전체)
+     */
+    public long getThrottledCount() {
+        return jobScheduler.getThrottledCount();
+    }
+
+    /**
+     * 시작 기한을 넘겨 실행된 회차 수 (단위 전체)
+     */
+    public long getLateStartCount() {
+        return jobScheduler.getLateStartCount();
+    }
+
+    public long getCancelledJobCount() {
+        return jobScheduler.getCancelledJobCount();
+    }
+
+    /**
+     * 단위 전체 지연 스냅샷 (fire-to-enqueue, enqueue-to-start, run time)
+     */
+    public JobLatencySnapshot getLatencySnapshot() {
+        return jobScheduler.getLatencySnapshot();
+    }
+
+    /**
+     * 예약 중인 작업 이름별 지연 스냅샷
+     */
+    public Map<String, JobLatencySnapshot> getJobLatencySnapshots() {
+        return jobScheduler.getJobLatencySnapshots();
+    }
+
     public JobScheduler getJobScheduler() {
         return jobScheduler;
     }
@@ -75,8 +179,34 @@ public class ScheduleUnit {
         return scheduleUnitKey;
     }
 
+    /**
+     * 현재 executor 수 (탄력적이면 부하에 따라 바뀜)
+     */
     public int getPoolSize() {
-        return poolSize;
+        return jobScheduler.getPoolSize();
+    }
+
+    public int getMinPoolSize() {
+        return jobScheduler.getMinPoolSize();
+    }
+
+    public int getMaxPoolSize() {
+        return jobScheduler.getMaxPoolSize();
+    }
+
+    /**
+     * executor 수를 늘린 / 줄인 횟수
+     */
+    public long getScaleUpCount() {
+        return jobScheduler.getScaleUpCount();
+    }
+
+    public long getScaleDownCount() {
+        return jobScheduler.getScaleDownCount();
+    }
+
+    public ScheduleUnitOption getScheduleUnitOption() {
+        return scheduleUnitOption;
     }
 
     public long getCreatedTime() {
@@ -88,6 +218,8 @@ public class ScheduleUnit {
         return "ScheduleUnit{" +
                 "key='" + scheduleUnitKey + '\'' +
                 ", threadCount=" + poolSize +
+                ", curThreadCount=" + jobScheduler.getPoolSize() +
+                ", option=" + scheduleUnitOption +
                 '}';
     }
     ////////////////////////////////////////////////////////////////////////////////
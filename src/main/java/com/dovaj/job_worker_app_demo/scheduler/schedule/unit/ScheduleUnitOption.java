@@ -0,0 +1,207 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.unit;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_QUEUE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy.ExecutorSelectionPolicy;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy.RoundRobinSelectionPolicy;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.HashedWheelTimer;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.unit
+ * fileName       : ScheduleUnitOption
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 실행 단위(ScheduleUnit) 부가 옵션 클래스
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class ScheduleUnitOption {
+
+    public static final int DEFAULT_VIRTUAL_THREAD_CONCURRENCY = 256;
+    public static final int DEFAULT_SCALE_UP_QUEUE_DEPTH = 4;
+    public static final long DEFAULT_SCALE_UP_LAG_MILLIS = 100;
+    public static final long DEFAULT_SCALE_DOWN_IDLE_MILLIS = 60_000;
+    public static final long DEFAULT_SCALE_CHECK_INTERVAL_MILLIS = 1_000;
+
+    private DISPATCH_MODE_TYPE dispatchMode = DISPATCH_MODE_TYPE.BLOCKING;
+    private boolean isWorkStealing = false;
+    private ExecutorSelectionPolicy executorSelectionPolicy = new RoundRobinSelectionPolicy();
+    private DISPATCH_QUEUE_TYPE dispatchQueueType = DISPATCH_QUEUE_TYPE.PRIORITY_HEAP;
+    private int agingInterval = 0; // PRIORITY_BUCKET 전용, 0 이면 엄격한 우선순위
+    private int virtualThreadConcurrency = DEFAULT_VIRTUAL_THREAD_CONCURRENCY; // VIRTUAL_THREAD 전용, 0 이하면 무제한
+    private boolean isJobLatencyMetrics = true; // 작업별 지연 히스토그램 (단위 전체 히스토그램은 항상 기록)
+    private double rateLimitPerSecond = 0; // 단위 전체 초당 실행 수 제한, 0 이하면 제한 없음
+    private int rateLimitBurst = 1;
+    // 탄력적 executor 수 (maxPoolSize 가 0 이면 생성 시 poolSize 로 고정)
+    private int minPoolSize = 0;
+    private int maxPoolSize = 0;
+    private int scaleUpQueueDepth = DEFAULT_SCALE_UP_QUEUE_DEPTH; // executor 당 평균 대기 작업 수가 이 값 이상이면 증가
+    private long scaleUpLagMillis = DEFAULT_SCALE_UP_LAG_MILLIS; // 적재 후 실행 시작까지의 지연(EWMA)이 이 값 이상이면 증가, 0 이하면 미사용
+    private long scaleDownIdleMillis = DEFAULT_SCALE_DOWN_IDLE_MILLIS; // 유휴 executor 가 이 시간 동안 계속 있으면 감소
+    private long scaleCheckIntervalMillis = DEFAULT_SCALE_CHECK_INTERVAL_MILLIS;
+    private long timerTickMillis = HashedWheelTimer.DEFAULT_TICK_MILLIS; // 단위 전용 타이머의 tick (주기가 이보다 짧으면 tick 으로 올림), 공유 런타임이면 런타임 타이머 사용
+
+    public ScheduleUnitOption() {
+        // Nothing
+    }
+
+    public DISPATCH_MODE_TYPE getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public void setDispatchMode(DISPATCH_MODE_TYPE dispatchMode) {
+        this.dispatchMode = dispatchMode;
+    }
+
+    public boolean isWorkStealing() {
+        return isWorkStealing;
+    }
+
+    public void setWorkStealing(boolean workStealing) {
+        isWorkStealing = workStealing;
+    }
+
+    public ExecutorSelectionPolicy getExecutorSelectionPolicy() {
+        return executorSelectionPolicy;
+    }
+
+    public void setExecutorSelectionPolicy(ExecutorSelectionPolicy executorSelectionPolicy) {
+        this.executorSelectionPolicy = executorSelectionPolicy;
+    }
+
+    public DISPATCH_QUEUE_TYPE getDispatchQueueType() {
+        return dispatchQueueType;
+    }
+
+    public void setDispatchQueueType(DISPATCH_QUEUE_TYPE dispatchQueueType) {
+        this.dispatchQueueType = dispatchQueueType;
+    }
+
+    public int getAgingInterval() {
+        return agingInterval;
+    }
+
+    public void setAgingInterval(int agingInterval) {
+        this.agingInterval = agingInterval;
+    }
+
+    public int getVirtualThreadConcurrency() {
+        return virtualThreadConcurrency;
+    }
+
+    public void setVirtualThreadConcurrency(int virtualThreadConcurrency) {
+        this.virtualThreadConcurrency = virtualThreadConcurrency;
+    }
+
+    public boolean isJobLatencyMetrics() {
+        return isJobLatencyMetrics;
+    }
+
+    public void setJobLatencyMetrics(boolean jobLatencyMetrics) {
+        isJobLatencyMetrics = jobLatencyMetrics;
+    }
+
+    public double getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(double rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public int getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(int rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    public void setMinPoolSize(int minPoolSize) {
+        this.minPoolSize = minPoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getScaleUpQueueDepth() {
+        return scaleUpQueueDepth;
+    }
+
+    public void setScaleUpQueueDepth(int scaleUpQueueDepth) {
+        this.scaleUpQueueDepth = scaleUpQueueDepth;
+    }
+
+    public long getScaleUpLagMillis() {
+        return scaleUpLagMillis;
+    }
+
+    public void setScaleUpLagMillis(long scaleUpLagMillis) {
+        this.scaleUpLagMillis = scaleUpLagMillis;
+    }
+
+    public long getScaleDownIdleMillis() {
+        return scaleDownIdleMillis;
+    }
+
+    public void setScaleDownIdleMillis(long scaleDownIdleMillis) {
+        this.scaleDownIdleMillis = scaleDownIdleMillis;
+    }
+
+    public long getScaleCheckIntervalMillis() {
+        return scaleCheckIntervalMillis;
+    }
+
+    public void setScaleCheckIntervalMillis(long scaleCheckIntervalMillis) {
+        this.scaleCheckIntervalMillis = scaleCheckIntervalMillis;
+    }
+
+    /**
+     * executor 수를 부하에 따라 minPoolSize ~ maxPoolSize 사이에서 조절하는지 여부
+     */
+    public boolean isElasticPoolSize() {
+        return maxPoolSize > 0;
+    }
+
+    public long getTimerTickMillis() {
+        return timerTickMillis;
+    }
+
+    public void setTimerTickMillis(long timerTickMillis) {
+        this.timerTickMillis = timerTickMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleUnitOption{" +
+                "dispatchMode=" + dispatchMode +
+                ", isWorkStealing=" + isWorkStealing +
+                ", executorSelectionPolicy=" + executorSelectionPolicy.getClass().getSimpleName() +
+                ", dispatchQueueType=" + dispatchQueueType +
+                ", agingInterval=" + agingInterval +
+                ", virtualThreadConcurrency=" + virtualThreadConcurrency +
+                ", isJobLatencyMetrics=" + isJobLatencyMetrics +
+                ", rateLimitPerSecond=" + rateLimitPerSecond +
+                ", rateLimitBurst=" + rateLimitBurst +
+                ", minPoolSize=" + minPoolSize +
+                ", maxPoolSize=" + maxPoolSize +
+                ", scaleUpQueueDepth=" + scaleUpQueueDepth +
+                ", scaleUpLagMillis=" + scaleUpLagMillis +
+                ", scaleDownIdleMillis=" + scaleDownIdleMillis +
+                ", scaleCheckIntervalMillis=" + scaleCheckIntervalMillis +
+                ", timerTickMillis=" + timerTickMillis +
+                '}';
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.unit;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_QUEUE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.definition.EXECUTOR_SELECTION_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.policy.ExecutorSelectionPolicy;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.unit
+ * fileName       : ScheduleUnitOptionBuilder
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 작업 실행 단위 옵션 빌더 클래스
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class ScheduleUnitOptionBuilder {
+
+    private final ScheduleUnitOption scheduleUnitOption;
+
+    public ScheduleUnitOptionBuilder() {
+        this.scheduleUnitOption = new ScheduleUnitOption();
+    }
+
+    public ScheduleUnitOptionBuilder setDispatchMode(DISPATCH_MODE_TYPE dispatchMode) {
+        if (dispatchMode != null) {
+            scheduleUnitOption.setDispatchMode(dispatchMode);
+        }
+        return this;
+    }
+
+    public ScheduleUnitOptionBuilder setWorkStealing(boolean isWorkStealing) {
+        scheduleUnitOption.setWorkStealing(isWorkStealing);
+        return this;
+    }
+
+    public ScheduleUnitOptionBuilder setExecutorSelectionType(EXECUTOR_SELECTION_TYPE executorSelectionType) {
+        scheduleUnitOption.setExecutorSelectionPolicy(ExecutorSelectionPolicy.of(executorSelectionType));
+        return this;
+    }
+
+    public ScheduleUnitOptionBuilder setExecutorSelectionPolicy(ExecutorSelectionPolicy executorSelectionPolicy) {
+        if (executorSelectionPolicy != null) {
+            scheduleUnitOption.setExecutorSelectionPolicy(executorSelectionPolicy);
+        }
+        return this;
+    }
+
+    public ScheduleUnitOptionBuilder setDispatchQueueType(DISPATCH_QUEUE_TYPE dispatchQueueType) {
+        if (dispatchQueueType != null) {
+            scheduleUnitOption.setDispatchQueueType(dispatchQueueType);
+        }
+        return this;
+    }
+
+    /**
+     * @param agingInterval PRIORITY_BUCKET 큐에서 낮은 우선순위 레인을 먼저 처리하는 반출 간격 (0 이면 비활성)
+     */
+    public ScheduleUnitOptionBuilder setAgingInterval(int agingInterval) {
+        scheduleUnitOption.setAgingInterval(Math.max(0, agingInterval));
+        return this;
+    }
+
+    /**
+     * @param virtualThreadConcurrency VIRTUAL_THREAD 모드에서 단위 전체의 동시 실행 작업 수 상한 (0 이하면 무제한)
+     */
+    public ScheduleUnitOptionBuilder setVirtualThreadConcurrency(int virtualThreadConcurrency) {
+        scheduleUnitOption.setVirtualThreadConcurrency(virtualThreadConcurrency);
+        return this;
+    }
+
+    /**
+     * 작업별 지연 히스토그램 사용 여부 (작업 수가 매우 많으면 끄는 것을 권장, 작업당 최대 약 7.5KB)
+     */
+    public ScheduleUnitOptionBuilder setJobLatencyMetrics(boolean isJobLatencyMetrics) {
+        scheduleUnitOption.setJobLatencyMetrics(isJobLatencyMetrics);
+        return this;
+    }
+
+    /**
+     * 단위 전체 실행 횟수 제한 (초당 permitsPerSecond 회, 최대 burst 회 연속)
+     *
+     * @param permitsPerSecond 0 이하면 제한 없음
+     */
+    public ScheduleUnitOptionBuilder setRateLimit(double permitsPerSecond, int burst) {
+        scheduleUnitOption.setRateLimitPerSecond(permitsPerSecond);
+        scheduleUnitOption.setRateLimitBurst(Math.max(1, burst));
+        return this;
+    }
+
+    /**
+     * executor 수를 부하에 따라 minPoolSize ~ maxPoolSize 사이에서 늘리고 줄임
+     * - 생성 시 poolSize 는 이 범위로 보정되어 초기 executor 수가 됨
+     *
+     * @param maxPoolSize 0 이하면 비활성 (생성 시 poolSize 로 고정)
+     */
+    public ScheduleUnitOptionBuilder setElasticPoolSize(int minPoolSize, int maxPoolSize) {
+        if (maxPoolSize <= 0) {
+            scheduleUnitOption.setMinPoolSize(0);
+            scheduleUnitOption.setMaxPoolSize(0);
+            return this;
+        }
+        int curMinPoolSize = Math.max(1, Math.min(minPoolSize, maxPoolSize));
+        scheduleUnitOption.setMinPoolSize(curMinPoolSize);
+        scheduleUnitOption.setMaxPoolSize(maxPoolSize);
+        return this;
+    }
+
+    /**
+     * @param queueDepth executor 당 평균 대기 작업 수 기준 (1 이상)
+     * @param lagMillis  적재 후 실행 시작까지의 지연 기준 (0 이하면 지연으로는 늘리지 않음)
+     */
+    public ScheduleUnitOptionBuilder setScaleUpThreshold(int queueDepth, long lagMillis) {
+        scheduleUnitOption.setScaleUpQueueDepth(Math.max(1, queueDepth));
+        scheduleUnitOption.setScaleUpLagMillis(lagMillis);
+        return this;
+    }
+
+    /**
+     * @param idleMillis 유휴 executor 가 이 시간 동안 계속 있으면 하나씩 줄임
+     */
+    public ScheduleUnitOptionBuilder setScaleDownIdleMillis(long idleMillis) {
+        scheduleUnitOption.setScaleDownIdleMillis(Math.max(0L, idleMillis));
+        return this;
+    }
+
+    /**
+     * @param checkIntervalMillis 부하 확인 주기 (최소 10ms)
+     */
+    public ScheduleUnitOptionBuilder setScaleCheckIntervalMillis(long checkIntervalMillis) {
+        scheduleUnitOption.setScaleCheckIntervalMillis(Math.max(10L, checkIntervalMillis));
+        return this;
+    }
+
+    /**
+     * @param tickMillis 단위 전용 타이머의 tick (최소 1ms, 공유 런타임을 쓰면 무시)
+     */
+    public ScheduleUnitOptionBuilder setTimerTickMillis(long tickMillis) {
+        scheduleUnitOption.setTimerTickMillis(Math.max(1L, tickMillis));
+        return this;
+    }
+
+    public ScheduleUnitOption build() {
+        return scheduleUnitOption;
+    }
+
+}
@@ -0,0 +1,308 @@
+package com.dovaj.job_worker_app_demo.scheduler.simulation;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.DISPATCH_MODE_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.clock.VirtualSchedulerClock;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobExecutor;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.handler.JobScheduleResult;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.timer.VirtualJobTimer;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnit;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.simulation
+ * fileName       : SchedulerSimulation
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 가상 시간으로 스케줄 단위 하나를 구동하는 시뮬레이션 클래스 (운영 pool 크기 산정용)
+ * - 실제 JobScheduler / JobAdder / JobExecutor 코드를 그대로 사용하고, 시계와 타이머만 가상 구현으로 교체
+ * - 작업 본문 대신 지정한 실행 시간만큼 executor 를 점유한 것으로 간주 (이산 사건 방식이라 며칠 분량도 수 초 안에 재생)
+ * - 하나의 쓰레드에서 발화 시각 / 실행 종료 시각 순서대로 진행하므로 같은 입력이면 결과가 같음
+ * - 작업은 가상 실행 시간이 끝날 때까지 실행 중 수(runningCount)에 잡히므로 SKIP 정책도 운영과 같이 동작
+ *   (같은 시각이면 실행 종료를 발화보다 먼저 처리)
+ * <p>
+ * 제약
+ * - VIRTUAL_THREAD 반출 방식은 지원하지 않음 (실행이 다른 쓰레드로 넘어가 가상 시간과 어긋남)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class SchedulerSimulation {
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerSimulation.class);
+
+    private final VirtualSchedulerClock clock;
+    private final VirtualJobTimer jobTimer;
+    private final SchedulerRuntime schedulerRuntime;
+    private final ScheduleUnit scheduleUnit;
+    private final int poolSize;
+    private final int laneCount; // 탄력적 executor 수면 최대 executor 수
+
+    // executor(레인)별 상태 : 실행 종료 시각, 실행 중인 작업, 처리 대기 중인 레인
+    private final long[] busyUntilNanoTimes;
+    private final boolean[] isLaneBusy;
+    private final Job[] runningJobs;
+    private final JobExecutor[] readyLanes;
+
+    // 방금 실행한 작업과 가상 실행 시간 (시뮬레이션 쓰레드 전용)
+    private Job curRunJob = null;
+    private long curRunTimeNanos = 0;
+
+    // 누적 지표
+    private long firedCount = 0;
+    private long executedCount = 0;
+    private long dispatchNanos = 0;
+    private long busyNanos = 0;
+    private long wallTimeNanos = 0;
+    private int maxQueuedJobCount = 0;
+    private long maxQueuedNanoOffset = 0;
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    public SchedulerSimulation(String name, int poolSize, int queueSize) {
+        this(name, poolSize, queueSize, new ScheduleUnitOption());
+    }
+
+    public SchedulerSimulation(String name, int poolSize, int queueSize, ScheduleUnitOption scheduleUnitOption) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive. (" + poolSize + ")");
+        }
+        if (scheduleUnitOption.getDispatchMode() == DISPATCH_MODE_TYPE.VIRTUAL_THREAD) {
+            throw new IllegalArgumentException("VIRTUAL_THREAD dispatch mode is not supported in simulation.");
+        }
+
+        this.poolSize = poolSize;
+        clock = new VirtualSchedulerClock();
+        jobTimer = new VirtualJobTimer(clock);
+        schedulerRuntime = new SchedulerRuntime(name, jobTimer, clock);
+        scheduleUnit = new ScheduleUnit(name, poolSize, queueSize, scheduleUnitOption, schedulerRuntime);
+
+        laneCount = Math.max(poolSize, scheduleUnit.getMaxPoolSize());
+        busyUntilNanoTimes = new long[laneCount];
+        isLaneBusy = new boolean[laneCount];
+        runningJobs = new Job[laneCount];
+        readyLanes = new JobExecutor[laneCount];
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * 고정 실행 시간 작업 등록 (작업의 기존 runnable 은 실행 시간 모형으로 교체됨)
+     */
+    public boolean addJob(Job job, long runTime, TimeUnit unit) {
+        long runTimeNanos = unit.toNanos(Math.max(0L, runTime));
+        return addJob(job, () -> runTimeNanos);
+    }
+
+    /**
+     * @param runTimeNanosSupplier 회차마다 호출되어 가상 실행 시간(nano)을 돌려주는 모형
+     */
+    public boolean addJob(Job job, LongSupplier runTimeNanosSupplier) {
+        if (job == null || runTimeNanosSupplier == null) {
+            return false;
+        }
+        setSimulatedRunnable(job, runTimeNanosSupplier);
+        return scheduleUnit.start(job);
+    }
+
+    /**
+     * 고정 실행 시간 작업 일괄 등록 (최초 발화 시각 분산 여부는 ScheduleManager.startJobs 와 같음)
+     */
+    public List<JobScheduleResult> addJobs(Collection<Job> jobs, long runTime, TimeUnit unit, boolean isSpreadFirstFire) {
+        long runTimeNanos = unit.toNanos(Math.max(0L, runTime));
+        List<Job> validJobs = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            if (job != null) {
+                setSimulatedRunnable(job, () -> runTimeNanos);
+            }
+            validJobs.add(job);
+        }
+        return scheduleUnit.startJobs(validJobs, isSpreadFirstFire);
+    }
+
+    public void removeJob(Job job) {
+        scheduleUnit.stop(job);
+    }
+
+    /**
+     * 가상 시간을 duration 만큼 진행
+     * - 여러 번 호출하면 이어서 진행하며, 결과는 시작 이후 누적 값
+     */
+    public SimulationReport run(long duration, TimeUnit unit) {
+        long wallStartNanos = System.nanoTime();
+        long endNanoTime = clock.nanoTime() + unit.toNanos(Math.max(0L, duration));
+
+        for (; ; ) {
+            startFreeLanes();
+            sampleQueuedJobCount();
+
+            long nextNanoTime = Math.min(jobTimer.getNextDeadlineNanoTime(), getNextLaneFreeNanoTime());
+            if (nextNanoTime == Long.MAX_VALUE || nextNanoTime - endNanoTime > 0) {
+                break;
+            }
+
+            // 같은 시각에 끝나는 실행을 먼저 정리해야 SKIP 정책이 막 끝난 실행을 실행 중으로 보지 않음
+            clock.advanceTo(nextNanoTime);
+            releaseFinishedLanes();
+
+            // 발화 작업은 실제 적재 경로를 그대로 타므로 이 구간의 실제 시간이 적재 비용
+            long dispatchStartNanos = System.nanoTime();
+            firedCount += jobTimer.advanceTo(nextNanoTime);
+            dispatchNanos += System.nanoTime() - dispatchStartNanos;
+        }
+        clock.advanceTo(endNanoTime);
+        releaseFinishedLanes();
+        jobTimer.advanceTo(endNanoTime);
+
+        wallTimeNanos += System.nanoTime() - wallStartNanos;
+        SimulationReport simulationReport = newReport();
+        if (logger.isDebugEnabled()) {
+            logger.debug("[SchedulerSimulation({})] {}", scheduleUnit.getScheduleUnitKey(), simulationReport);
+        }
+        return simulationReport;
+    }
+
+    public void stop() {
+        scheduleUnit.stopAll();
+        schedulerRuntime.stop();
+
+        // 가상 실행 시간이 남은 회차도 종료 처리
+        for (int i = 0; i < laneCount; i++) {
+            if (isLaneBusy[i]) {
+                finishLane(i);
+            }
+        }
+    }
+
+    public ScheduleUnit getScheduleUnit() {
+        return scheduleUnit;
+    }
+
+    public VirtualSchedulerClock getClock() {
+        return clock;
+    }
+
+    public VirtualJobTimer getJobTimer() {
+        return jobTimer;
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /// /////////////////////////////////////////////////////////////////////////////
+    /**
+     * 실행 시간이 있으면 JobExecutor 의 finishRun 이후에도 실행 중으로 남도록 holdRun 하고, 레인이 비는 시각에 finishRun
+     */
+    private void setSimulatedRunnable(Job job, LongSupplier runTimeNanosSupplier) {
+        job.setRunnable(() -> {
+            curRunTimeNanos = Math.max(0L, runTimeNanosSupplier.getAsLong());
+            if (curRunTimeNanos > 0) {
+                job.holdRun();
+                curRunJob = job;
+            }
+        });
+    }
+
+    /**
+     * 작업이 적재된 레인 중 비어 있는 executor 에서 한 회차씩 실행
+     * - drain 이 남은 작업을 위해 레인을 다시 등록하므로 더 이상 진행이 없을 때까지 반복
+     */
+    private void startFreeLanes() {
+        boolean isProgressed = true;
+        while (isProgressed) {
+            isProgressed = false;
+
+            JobExecutor lane;
+            while ((lane = schedulerRuntime.pollReadyLane()) != null) {
+                readyLanes[lane.getIndex()] = lane;
+            }
+
+            long now = clock.nanoTime();
+            for (int i = 0; i < laneCount; i++) {
+                lane = readyLanes[i];
+                if (lane == null || isLaneBusy[i]) {
+                    continue;
+                }
+
+                readyLanes[i] = null;
+                curRunJob = null;
+                curRunTimeNanos = 0;
+                if (lane.drain(1) > 0) {
+                    executedCount++;
+                    busyNanos += curRunTimeNanos;
+                    busyUntilNanoTimes[i] = now + curRunTimeNanos;
+                    isLaneBusy[i] = curRunTimeNanos > 0;
+                    runningJobs[i] = curRunJob;
+                }
+                isProgressed = true;
+            }
+        }
+    }
+
+    private void releaseFinishedLanes() {
+        long now = clock.nanoTime();
+        for (int i = 0; i < laneCount; i++) {
+            if (isLaneBusy[i] && busyUntilNanoTimes[i] - now <= 0) {
+                finishLane(i);
+            }
+        }
+    }
+
+    private void finishLane(int laneIndex) {
+        isLaneBusy[laneIndex] = false;
+        Job runningJob = runningJobs[laneIndex];
+        if (runningJob != null) {
+            runningJobs[laneIndex] = null;
+            runningJob.finishRun();
+        }
+    }
+
+    private long getNextLaneFreeNanoTime() {
+        long nextNanoTime = Long.MAX_VALUE;
+        for (int i = 0; i < laneCount; i++) {
+            if (isLaneBusy[i] && (nextNanoTime == Long.MAX_VALUE || busyUntilNanoTimes[i] - nextNanoTime < 0)) {
+                nextNanoTime = busyUntilNanoTimes[i];
+            }
+        }
+        return nextNanoTime;
+    }
+
+    private void sampleQueuedJobCount() {
+        int queuedJobCount = scheduleUnit.getQueuedJobCount();
+        if (queuedJobCount > maxQueuedJobCount) {
+            maxQueuedJobCount = queuedJobCount;
+            maxQueuedNanoOffset = clock.getElapsedNanos();
+        }
+    }
+
+    private SimulationReport newReport() {
+        return new SimulationReport(
+                poolSize,
+                clock.getElapsedNanos(),
+                wallTimeNanos,
+                firedCount,
+                executedCount,
+                scheduleUnit.getMissedTickCount(),
+                scheduleUnit.getThrottledCount(),
+                scheduleUnit.getLateStartCount(),
+                dispatchNanos,
+                busyNanos,
+                maxQueuedJobCount,
+                maxQueuedNanoOffset,
+                scheduleUnit.getQueuedJobCount(),
+                scheduleUnit.getLatencySnapshot()
+        );
+    }
+    ////////////////////////////////////////////////////////////////////////////////
+
+}
@@ -0,0 +1,174 @@
+package com.dovaj.job_worker_app_demo.scheduler.simulation;
+
+import com.dovaj.job_worker_app_demo.scheduler.metric.JobLatencySnapshot;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.simulation
+ * fileName       : SimulationReport
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : SchedulerSimulation 실행 결과 클래스 (불변)
+ * - 시간 값은 dispatchNanos / wallTimeNanos 만 실제 시간이며, 나머지는 가상 시간
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+public class SimulationReport {
+
+    private final int poolSize;
+    private final long virtualDurationNanos;
+    private final long wallTimeNanos;
+    private final long firedCount;
+    private final long executedCount;
+    private final long missedTickCount;
+    private final long throttledCount;
+    private final long lateStartCount;
+    private final long dispatchNanos;
+    private final long busyNanos;
+    private final int maxQueuedJobCount;
+    private final long maxQueuedNanoOffset;
+    private final int finalQueuedJobCount;
+    private final JobLatencySnapshot latencySnapshot;
+
+    public SimulationReport(int poolSize, long virtualDurationNanos, long wallTimeNanos,
+                            long firedCount, long executedCount,
+                            long missedTickCount, long throttledCount, long lateStartCount,
+                            long dispatchNanos, long busyNanos,
+                            int maxQueuedJobCount, long maxQueuedNanoOffset, int finalQueuedJobCount,
+                            JobLatencySnapshot latencySnapshot) {
+        this.poolSize = poolSize;
+        this.virtualDurationNanos = virtualDurationNanos;
+        this.wallTimeNanos = wallTimeNanos;
+        this.firedCount = firedCount;
+        this.executedCount = executedCount;
+        this.missedTickCount = missedTickCount;
+        this.throttledCount = throttledCount;
+        this.lateStartCount = lateStartCount;
+        this.dispatchNanos = dispatchNanos;
+        this.busyNanos = busyNanos;
+        this.maxQueuedJobCount = maxQueuedJobCount;
+        this.maxQueuedNanoOffset = maxQueuedNanoOffset;
+        this.finalQueuedJobCount = finalQueuedJobCount;
+        this.latencySnapshot = latencySnapshot;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public long getVirtualDurationNanos() {
+        return virtualDurationNanos;
+    }
+
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * 타이머 발화 수 (반복 작업은 주기마다 집계)
+     */
+    public long getFiredCount() {
+        return firedCount;
+    }
+
+    public long getExecutedCount() {
+        return executedCount;
+    }
+
+    public long getMissedTickCount() {
+        return missedTickCount;
+    }
+
+    public long getThrottledCount() {
+        return throttledCount;
+    }
+
+    public long getLateStartCount() {
+        return lateStartCount;
+    }
+
+    /**
+     * 발화부터 executor 적재까지 실제로 걸린 시간의 합 (실제 시간)
+     */
+    public long getDispatchNanos() {
+        return dispatchNanos;
+    }
+
+    /**
+     * 발화 1 회당 평균 적재 비용 (실제 시간)
+     */
+    public long getMeanDispatchNanos() {
+        return (firedCount > 0) ? dispatchNanos / firedCount : 0;
+    }
+
+    /**
+     * executor 들이 작업을 실행한 가상 시간의 합
+     */
+    public long getBusyNanos() {
+        return busyNanos;
+    }
+
+    /**
+     * executor 평균 사용률 (0 ~ 1)
+     */
+    public double getUtilization() {
+        if (poolSize <= 0 || virtualDurationNanos <= 0) {
+            return 0;
+        }
+        return (double) busyNanos / ((double) poolSize * virtualDurationNanos);
+    }
+
+    /**
+     * 가상 시간 동안 관측된 최대 대기 작업 수 (단위 전체)
+     */
+    public int getMaxQueuedJobCount() {
+        return maxQueuedJobCount;
+    }
+
+    /**
+     * 최대 대기 작업 수가 관측된 시점 (시뮬레이션 시작 기준 가상 시간)
+     */
+    public long getMaxQueuedNanoOffset() {
+        return maxQueuedNanoOffset;
+    }
+
+    public int getFinalQueuedJobCount() {
+        return finalQueuedJobCount;
+    }
+
+    /**
+     * 단위 전체 지연 스냅샷 (가상 시간 기준 enqueue-to-start 가 대기 지연)
+     */
+    public JobLatencySnapshot getLatencySnapshot() {
+        return latencySnapshot;
+    }
+
+    /**
+     * 가상 시간 / 실제 시간 배율
+     */
+    public double getSpeedup() {
+        return (wallTimeNanos > 0) ? (double) virtualDurationNanos / wallTimeNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationReport{" +
+                "poolSize=" + poolSize +
+                ", virtualDurationNanos=" + virtualDurationNanos +
+                ", wallTimeNanos=" + wallTimeNanos +
+                ", speedup=" + String.format("%.1f", getSpeedup()) +
+                ", firedCount=" + firedCount +
+                ", executedCount=" + executedCount +
+                ", missedTickCount=" + missedTickCount +
+                ", throttledCount=" + throttledCount +
+                ", lateStartCount=" + lateStartCount +
+                ", meanDispatchNanos=" + getMeanDispatchNanos() +
+                ", utilization=" + String.format("%.3f", getUtilization()) +
+                ", maxQueuedJobCount=" + maxQueuedJobCount +
+                ", maxQueuedNanoOffset=" + maxQueuedNanoOffset +
+                ", finalQueuedJobCount=" + finalQueuedJobCount +
+                '}';
+    }
+
+}
@@ -6,6 +6,7 @@ import com.dovaj.job_worker_app_demo.job.handler.JobMaster;
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
 import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.ScheduleManager;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
 import com.dovaj.job_worker_app_demo.service.aws.elasticache.AwsValKeyService;
 import com.dovaj.job_worker_app_demo.service.grpc.GrpcServerService;
 import com.dovaj.job_worker_app_demo.util.GsonUtil;
@@ -35,6 +36,7 @@ import java.util.UUID;
 public class HaHandler implements ApplicationListener<ContextRefreshedEvent> {
 
     private final ScheduleConfig scheduleConfig;
+    private final SchedulerRuntime schedulerRuntime;
     private final GsonUtil gsonUtil;
     private final GrpcServerService grpcServerService;
     private final AwsValKeyService awsValKeyService;
@@ -46,12 +48,13 @@ public class HaHandler implements ApplicationListener<ContextRefreshedEvent> {
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         // ScheduleManager init
-        scheduleManager = new ScheduleManager();
+        scheduleManager = new ScheduleManager(schedulerRuntime);
         scheduleKey = "HA_HANDLER_SCHEDULE_KEY:" + UUID.randomUUID();
         isSchedulerEnabled = scheduleManager.initJob(
                 scheduleKey,
                 scheduleConfig.getScheduleApplicationInfoReportThreadPoolSize(),
-                scheduleConfig.getScheduleApplicationInfoReportThreadPoolQueueSize()
+                scheduleConfig.getScheduleApplicationInfoReportThreadPoolQueueSize(),
+                scheduleConfig.newScheduleUnitOption()
         );
         if (isSchedulerEnabled) {
             log.info("Success to init job scheduler. ({})", scheduleKey);
@@ -6,6 +6,7 @@ import com.dovaj.job_worker_app_demo.job.handler.JobMaster;
 import com.dovaj.job_worker_app_demo.scheduler.job.Job;
 import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
 import com.dovaj.job_worker_app_demo.scheduler.schedule.ScheduleManager;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.runtime.SchedulerRuntime;
 import com.dovaj.job_worker_app_demo.util.GsonUtil;
 import com.dovaj.job_worker_app_demo.util.TimeUtil;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +43,7 @@ public class JobMonitoringService implements ApplicationListener<ContextRefreshe
     private String scheduleKey;
 
     private final ScheduleConfig scheduleConfig;
+    private final SchedulerRuntime schedulerRuntime;
 
     private final GsonUtil gsonUtil;
 
@@ -50,12 +52,13 @@ public class JobMonitoringService implements ApplicationListener<ContextRefreshe
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         // ScheduleManager init
-        scheduleManager = new ScheduleManager();
+        scheduleManager = new ScheduleManager(schedulerRuntime);
         scheduleKey = "JOB_ALLOCATOR_SCHEDULE_KEY:" + UUID.randomUUID();
         isSchedulerEnabled = scheduleManager.initJob(
                 scheduleKey,
                 scheduleConfig.getScheduleMonitoringThreadPoolSize(),
-                scheduleConfig.getScheduleMonitoringThreadPoolQueueSize()
+                scheduleConfig.getScheduleMonitoringThreadPoolQueueSize(),
+                scheduleConfig.newScheduleUnitOption()
         );
         if (isSchedulerEnabled) {
             log.info("Success to init job scheduler. ({})", scheduleKey);
@@ -0,0 +1,193 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : JobQueueManagerOverflowTest
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : JobQueueManager 넘침 영역(JobOverflowStore) 동작 확인
+ * - 세그먼트를 기록 3개 크기로 작게 잡아 세그먼트 경계를 자주 넘도록 함
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+class JobQueueManagerOverflowTest {
+
+    // 기록 하나 = 길이(4 byte) + 이름 "job-00"(6 byte) = 10 byte, 세그먼트 하나에 3개
+    private static final int SEGMENT_BYTES = 32;
+    private static final int RECORDS_PER_SEGMENT = 3;
+
+    // 이름만 기록하고 복원 시 같은 이름의 작업을 다시 만듦
+    private static final JobOverflowCodec NAME_CODEC = new JobOverflowCodec() {
+        @Override
+        public byte[] encode(Job job) {
+            return job.getName().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Job decode(byte[] bytes) {
+            return newJob(new String(bytes, StandardCharsets.UTF_8));
+        }
+    };
+
+    @TempDir
+    Path baseDirectory;
+
+    private JobOverflowStore overflowStore;
+
+    @AfterEach
+    void tearDown() {
+        if (overflowStore != null) {
+            overflowStore.close();
+        }
+    }
+
+    /**
+     * 워터마크를 넘은 작업은 디스크에 기록되고, 반출하면 여러 세그먼트를 거쳐 입력 순서대로 다시 올라와야 함
+     */
+    @Test
+    void spilledJobsAreRefilledInFifoOrderAcrossSegments() throws IOException {
+        overflowStore = new JobOverflowStore("fifo", baseDirectory, NAME_CODEC, SEGMENT_BYTES, 0);
+        JobQueueManager jobQueue = new JobQueueManager(3, null, overflowStore);
+
+        int jobCount = 30;
+        for (int i = 0; i < jobCount; i++) {
+            assertTrue(jobQueue.addJobInQueue(newJob(i), 0), "job " + i + " is not added");
+        }
+        assertEquals(jobCount, jobQueue.size());
+        assertEquals(jobCount - 3, jobQueue.getOverflowCount());
+        assertEquals((jobCount - 3) / RECORDS_PER_SEGMENT, overflowStore.getSegmentCount());
+        assertTrue(jobQueue.isAboveWatermark());
+
+        for (int i = 0; i < jobCount; i++) {
+            assertJob(jobQueue.exportJobFromQueue(), i);
+        }
+        assertNull(jobQueue.exportJobFromQueue());
+        assertEquals(jobCount - 3, overflowStore.getTotalRestoredCount());
+        assertEquals(0, jobQueue.getOverflowCount());
+
+        // 다 읽은 세그먼트는 삭제하지 않고 일부를 남겨 두었다가 다음 넘침에 다시 사용
+        int freeSegmentCount = overflowStore.getFreeSegmentCount();
+        assertEquals(JobOverflowStore.MAX_FREE_SEGMENT_COUNT, freeSegmentCount);
+        long fileCount = countSegmentFiles();
+        assertEquals(overflowStore.getSegmentCount() + freeSegmentCount, fileCount);
+
+        // 남아 있는 쓰기 세그먼트와 여유 세그먼트를 모두 채워도 새 파일은 만들지 않음
+        int refillJobCount = 3 + RECORDS_PER_SEGMENT * (int) fileCount;
+        for (int i = 0; i < refillJobCount; i++) {
+            assertTrue(jobQueue.addJobInQueue(newJob(i), 0));
+        }
+        assertEquals(0, overflowStore.getFreeSegmentCount());
+        assertEquals(fileCount, countSegmentFiles(), "free segments must be reused without new files");
+        for (int i = 0; i < refillJobCount; i++) {
+            assertJob(jobQueue.exportJobFromQueue(), i);
+        }
+    }
+
+    /**
+     * 최대 세그먼트 수에 도달하면 추가가 거절되고, 반출로 세그먼트가 비면 다시 받아야 함
+     */
+    @Test
+    void addIsRejectedAtMaxSegmentCount() throws IOException {
+        overflowStore = new JobOverflowStore("limit", baseDirectory, NAME_CODEC, SEGMENT_BYTES, 2);
+        JobQueueManager jobQueue = new JobQueueManager(2, null, overflowStore);
+
+        // 메모리 2 + 세그먼트 2개 x 3
+        int capacity = 2 + 2 * RECORDS_PER_SEGMENT;
+        for (int i = 0; i < capacity; i++) {
+            assertTrue(jobQueue.addJobInQueue(newJob(i), 0), "job " + i + " is not added");
+        }
+        assertFalse(jobQueue.addJobInQueue(newJob(capacity), 0), "add must fail at maxSegmentCount");
+        assertFalse(jobQueue.addJobsInQueue(List.of(newJob(capacity), newJob(capacity + 1))));
+        assertEquals(capacity, jobQueue.size());
+        assertEquals(2, overflowStore.getSegmentCount());
+
+        // 첫 세그먼트의 기록을 모두 메모리로 올리면 세그먼트 하나가 비어 다시 받을 수 있음
+        for (int i = 0; i < RECORDS_PER_SEGMENT; i++) {
+            assertJob(jobQueue.exportJobFromQueue(), i);
+        }
+        assertEquals(1, overflowStore.getSegmentCount());
+        assertTrue(jobQueue.addJobInQueue(newJob(capacity), 0));
+
+        // 거절된 작업 없이 순서가 이어져야 함
+        for (int i = RECORDS_PER_SEGMENT; i <= capacity; i++) {
+            assertJob(jobQueue.exportJobFromQueue(), i);
+        }
+        assertTrue(jobQueue.isEmpty());
+    }
+
+    /**
+     * clearQueue 는 넘친 기록까지 모두 버려야 하고, 이후 추가는 다시 메모리부터 채워야 함
+     */
+    @Test
+    void clearQueueDropsSpilledJobs() throws IOException {
+        overflowStore = new JobOverflowStore("clear", baseDirectory, NAME_CODEC, SEGMENT_BYTES, 0);
+        JobQueueManager jobQueue = new JobQueueManager(2, null, overflowStore);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(jobQueue.addJobInQueue(newJob(i), 0));
+        }
+        assertEquals(18, jobQueue.getOverflowCount());
+
+        assertTrue(jobQueue.clearQueue());
+        assertEquals(0, jobQueue.size());
+        assertEquals(0, jobQueue.getOverflowCount());
+        assertTrue(overflowStore.isEmpty());
+        assertTrue(jobQueue.isEmpty());
+        assertNull(jobQueue.exportJobFromQueue());
+
+        // 지운 뒤에는 넘침 영역을 거치지 않고 메모리에 들어가야 함
+        assertTrue(jobQueue.addJobInQueue(newJob(100), 0));
+        assertTrue(jobQueue.addJobInQueue(newJob(101), 0));
+        assertEquals(0, jobQueue.getOverflowCount());
+        assertTrue(jobQueue.addJobInQueue(newJob(102), 0));
+        assertEquals(1, jobQueue.getOverflowCount());
+
+        for (int i = 100; i <= 102; i++) {
+            assertJob(jobQueue.exportJobFromQueue(), i);
+        }
+        assertNull(jobQueue.exportJobFromQueue());
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(overflowStore.getDirectory())) {
+            return paths.count();
+        }
+    }
+
+    private static Job newJob(int index) {
+        return newJob(String.format("job-%02d", index));
+    }
+
+    private static Job newJob(String name) {
+        return new JobBuilder()
+                .setName(name)
+                .build();
+    }
+
+    private static void assertJob(Job job, int index) {
+        assertNotNull(job, "expected job " + index);
+        assertEquals(String.format("job-%02d", index), job.getName());
+    }
+
+}
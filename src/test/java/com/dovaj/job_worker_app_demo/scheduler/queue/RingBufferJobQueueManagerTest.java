@@ -0,0 +1,330 @@
+package com.dovaj.job_worker_app_demo.scheduler.queue;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.queue
+ * fileName       : RingBufferJobQueueManagerTest
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : RingBufferJobQueueManager 다중 생산자/소비자 동작 확인
+ * - 작업 이름을 "생산자:순번" 으로 만들어 유실 / 중복 / 생산자별 순서를 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+class RingBufferJobQueueManagerTest {
+
+    private static final long WAIT_SECONDS = 30;
+
+    /**
+     * 2의 거듭제곱이 아닌 워터마크도 그대로 최대 수용량이 되어야 함 (링 크기는 올림)
+     */
+    @Test
+    void nonPowerOfTwoWatermarkIsCapacity() {
+        RingBufferJobQueueManager jobQueue = new RingBufferJobQueueManager(5);
+        assertEquals(8, jobQueue.getRingSize());
+
+        // 여러 바퀴를 돌아도 워터마크에서 막히고, 꺼낸 만큼 다시 들어가야 함
+        int sequence = 0;
+        int exportSequence = 0;
+        for (int round = 0; round < 10; round++) {
+            while (jobQueue.addJobInQueue(newJob(0, sequence), 0)) {
+                sequence++;
+            }
+            assertEquals(5, jobQueue.size());
+            assertTrue(jobQueue.isAboveWatermark());
+
+            for (int i = 0; i < 3; i++) {
+                assertJob(jobQueue.exportJobFromQueue(), 0, exportSequence++);
+            }
+            assertEquals(2, jobQueue.size());
+        }
+        assertEquals(5 + 9 * 3, sequence);
+
+        while (!jobQueue.isEmpty()) {
+            assertJob(jobQueue.exportJobFromQueue(), 0, exportSequence++);
+        }
+        assertEquals(sequence, exportSequence);
+        assertNull(jobQueue.exportJobFromQueue());
+    }
+
+    /**
+     * 작은 워터마크로 가득 참 / 비어 있음 대기를 자주 거치게 하여 N 생산자 x M 소비자로 전달
+     * - 모든 작업이 정확히 한 번씩 반출되어야 함
+     * - 한 소비자가 받은 같은 생산자의 작업은 추가한 순서여야 함
+     */
+    @Test
+    void noLostOrDuplicatedJobsUnderContention() throws Exception {
+        int producerCount = 4;
+        int consumerCount = 4;
+        int jobCountPerProducer = 20_000;
+        RingBufferJobQueueManager jobQueue = new RingBufferJobQueueManager(7);
+
+        AtomicReferenceArray<AtomicInteger[]> exportedCounts = new AtomicReferenceArray<>(producerCount);
+        for (int p = 0; p < producerCount; p++) {
+            AtomicInteger[] counts = new AtomicInteger[jobCountPerProducer];
+            for (int i = 0; i < jobCountPerProducer; i++) {
+                counts[i] = new AtomicInteger();
+            }
+            exportedCounts.set(p, counts);
+        }
+
+        int totalJobCount = producerCount * jobCountPerProducer;
+        AtomicInteger remainJobCount = new AtomicInteger(totalJobCount);
+        AtomicReference<String> failure = new AtomicReference<>();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                await(startLatch);
+                for (int i = 0; i < jobCountPerProducer; i++) {
+                    Job job = newJob(producer, i);
+                    // 절반은 비차단 추가를 반복하고, 절반은 차단 추가로 대기 경로를 탐
+                    if ((i & 1) == 0) {
+                        if (!jobQueue.addJobInQueueBlocking(job, 0, 0)) {
+                            failure.compareAndSet(null, "blocking add failed. (" + job.getName() + ")");
+                            return;
+                        }
+                    } else {
+                        while (!jobQueue.addJobInQueue(job, 0)) {
+                            Thread.yield();
+                        }
+                    }
+                }
+            }, "producer-" + p));
+        }
+
+        for (int c = 0; c < consumerCount; c++) {
+            int consumer = c;
+            threads.add(new Thread(() -> {
+                await(startLatch);
+                int[] lastSequences = new int[producerCount];
+                Arrays.fill(lastSequences, -1);
+                List<Job> drainedJobs = new ArrayList<>();
+                try {
+                    while (remainJobCount.get() > 0) {
+                        drainedJobs.clear();
+                        // 소비자마다 단건 차단 반출 / 일괄 반출을 섞어 사용
+                        if ((consumer & 1) == 0) {
+                            Job job = jobQueue.exportJobFromQueueBlocking(10, TimeUnit.MILLISECONDS);
+                            if (job != null) {
+                                drainedJobs.add(job);
+                            }
+                        } else {
+                            drainedJobs.addAll(jobQueue.drainAtLeastOne(5, 10, TimeUnit.MILLISECONDS));
+                        }
+
+                        for (Job job : drainedJobs) {
+                            int[] key = parse(job);
+                            if (key[1] <= lastSequences[key[0]]) {
+                                failure.compareAndSet(null, "FIFO order is broken. (" + job.getName()
+                                        + ", last=" + lastSequences[key[0]] + ")");
+                            }
+                            lastSequences[key[0]] = key[1];
+                            exportedCounts.get(key[0])[key[1]].incrementAndGet();
+                            remainJobCount.decrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    failure.compareAndSet(null, "consumer is interrupted.");
+                }
+            }, "consumer-" + c));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            assertFalse(thread.isAlive(), thread.getName() + " is stuck. (remain=" + remainJobCount.get() + ")");
+        }
+
+        assertNull(failure.get(), failure.get());
+        assertEquals(0, remainJobCount.get());
+        for (int p = 0; p < producerCount; p++) {
+            AtomicInteger[] counts = exportedCounts.get(p);
+            for (int i = 0; i < jobCountPerProducer; i++) {
+                assertEquals(1, counts[i].get(), "job " + p + ":" + i + " is lost or duplicated");
+            }
+        }
+        assertTrue(jobQueue.isEmpty());
+    }
+
+    /**
+     * 생산자 여러 개, 소비자 하나면 각 생산자의 작업이 추가한 순서 그대로 반출되어야 함
+     */
+    @Test
+    void fifoPerProducerWithSingleConsumer() throws Exception {
+        int producerCount = 3;
+        int jobCountPerProducer = 30_000;
+        RingBufferJobQueueManager jobQueue = new RingBufferJobQueueManager(100);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            producers.add(new Thread(() -> {
+                // 타임드 대기 경로 (spinWaitMillis > 0)
+                for (int i = 0; i < jobCountPerProducer; i++) {
+                    if (!jobQueue.addJobInQueueBlocking(newJob(producer, i), 0, 1)) {
+                        return;
+                    }
+                }
+            }, "producer-" + p));
+        }
+        for (Thread producer : producers) {
+            producer.start();
+        }
+
+        int[] nextSequences = new int[producerCount];
+        int totalJobCount = producerCount * jobCountPerProducer;
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        for (int exportedCount = 0; exportedCount < totalJobCount; exportedCount++) {
+            Job job = jobQueue.exportJobFromQueueBlocking(1, TimeUnit.SECONDS);
+            assertNotNull(job, "job is not exported. (exported=" + exportedCount + ")");
+            int[] key = parse(job);
+            assertEquals(nextSequences[key[0]], key[1], "FIFO order is broken for producer " + key[0]);
+            nextSequences[key[0]]++;
+            assertTrue(System.nanoTime() - deadlineNanos < 0, "timed out");
+        }
+
+        for (Thread producer : producers) {
+            producer.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+            assertFalse(producer.isAlive(), producer.getName() + " is stuck.");
+        }
+        assertTrue(jobQueue.isEmpty());
+    }
+
+    /**
+     * 가득 찬 큐의 차단 추가는 반출 한 번으로 깨어나야 함
+     */
+    @Test
+    void blockingAddWakesUpWhenSlotIsFreed() throws Exception {
+        RingBufferJobQueueManager jobQueue = new RingBufferJobQueueManager(3);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(jobQueue.addJobInQueue(newJob(0, i), 0));
+        }
+        assertFalse(jobQueue.addJobInQueue(newJob(0, 99), 0));
+
+        AtomicBoolean isAdded = new AtomicBoolean();
+        Thread producer = new Thread(() -> isAdded.set(jobQueue.addJobInQueueBlocking(newJob(0, 3), 0, 0)), "producer");
+        producer.start();
+        waitUntilParked(producer);
+        assertFalse(isAdded.get(), "blocking add must wait while the queue is full");
+
+        assertJob(jobQueue.exportJobFromQueue(), 0, 0);
+        producer.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+        assertFalse(producer.isAlive(), "blocking add is not woken up");
+        assertTrue(isAdded.get());
+
+        for (int i = 1; i <= 3; i++) {
+            assertJob(jobQueue.exportJobFromQueue(), 0, i);
+        }
+    }
+
+    /**
+     * 빈 큐의 차단 반출 / drainAtLeastOne 은 추가 한 번으로 깨어나야 함
+     */
+    @Test
+    void blockingExportWakesUpWhenJobIsAdded() throws Exception {
+        RingBufferJobQueueManager jobQueue = new RingBufferJobQueueManager(6);
+
+        AtomicReference<Job> exportedJob = new AtomicReference<>();
+        Thread consumer = new Thread(() -> exportedJob.set(jobQueue.exportJobFromQueueBlocking()), "consumer");
+        consumer.start();
+        waitUntilParked(consumer);
+        assertNull(exportedJob.get(), "blocking export must wait while the queue is empty");
+
+        Job job = newJob(0, 0);
+        assertTrue(jobQueue.addJobInQueue(job, 0));
+        consumer.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+        assertFalse(consumer.isAlive(), "blocking export is not woken up");
+        assertSame(job, exportedJob.get());
+
+        // 일괄 추가 한 번으로 일괄 반출 대기도 깨어나야 함
+        AtomicReference<List<Job>> drainedJobs = new AtomicReference<>();
+        Thread drainer = new Thread(() -> {
+            try {
+                drainedJobs.set(jobQueue.drainAtLeastOne(10, 0, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "drainer");
+        drainer.start();
+        waitUntilParked(drainer);
+
+        assertTrue(jobQueue.addJobsInQueue(List.of(newJob(0, 1), newJob(0, 2), newJob(0, 3))));
+        drainer.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+        assertFalse(drainer.isAlive(), "drainAtLeastOne is not woken up");
+        assertNotNull(drainedJobs.get());
+        assertFalse(drainedJobs.get().isEmpty());
+        int sequence = 1;
+        for (Job drainedJob : drainedJobs.get()) {
+            assertJob(drainedJob, 0, sequence++);
+        }
+    }
+
+    private static Job newJob(int producer, int sequence) {
+        return new JobBuilder()
+                .setName(producer + ":" + sequence)
+                .build();
+    }
+
+    private static int[] parse(Job job) {
+        String name = job.getName();
+        int separatorIndex = name.indexOf(':');
+        return new int[]{
+                Integer.parseInt(name.substring(0, separatorIndex)),
+                Integer.parseInt(name.substring(separatorIndex + 1))
+        };
+    }
+
+    private static void assertJob(Job job, int producer, int sequence) {
+        assertNotNull(job, "expected " + producer + ":" + sequence);
+        assertEquals(producer + ":" + sequence, job.getName());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 대상 쓰레드가 Condition 에서 대기 상태에 들어갈 때까지 대기
+     */
+    private static void waitUntilParked(Thread thread) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(thread.isAlive(), thread.getName() + " finished without waiting");
+            assertTrue(System.nanoTime() - deadlineNanos < 0, thread.getName() + " does not wait");
+            Thread.sleep(1);
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.dovaj.job_worker_app_demo.scheduler.schedule.handler;
+
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.schedule.unit.ScheduleUnitOptionBuilder;
+import com.dovaj.job_worker_app_demo.scheduler.simulation.SchedulerSimulation;
+import com.dovaj.job_worker_app_demo.scheduler.simulation.SimulationReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.schedule.handler
+ * fileName       : JobSchedulerRateLimitTest
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 실행 횟수 제한으로 지연되는 회차가 작업당 하나로 제한되는지 확인 (가상 시간으로 구동)
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+class JobSchedulerRateLimitTest {
+
+    private SchedulerSimulation schedulerSimulation;
+
+    @AfterEach
+    void tearDown() {
+        if (schedulerSimulation != null) {
+            schedulerSimulation.stop();
+        }
+    }
+
+    /**
+     * 주기가 토큰 간격보다 훨씬 짧은 작업이 있어도 같은 단위의 다른 작업이 계속 실행되어야 함
+     */
+    @Test
+    void fastJobDoesNotStarveOtherJobsInUnit() {
+        schedulerSimulation = new SchedulerSimulation("RATE_LIMIT_TEST", 2, 1024,
+                new ScheduleUnitOptionBuilder()
+                        .setRateLimit(10, 1)
+                        .build()
+        );
+
+        AtomicLong fastRunCount = new AtomicLong();
+        AtomicLong slowRunCount = new AtomicLong();
+        Job fastJob = newLastedJob("FAST", 1);
+        Job slowJob = newLastedJob("SLOW", 200);
+        assertTrue(schedulerSimulation.addJob(fastJob, () -> {
+            fastRunCount.incrementAndGet();
+            return 0L;
+        }));
+        assertTrue(schedulerSimulation.addJob(slowJob, () -> {
+            slowRunCount.incrementAndGet();
+            return 0L;
+        }));
+
+        SimulationReport simulationReport = schedulerSimulation.run(10, TimeUnit.SECONDS);
+
+        // 단위 제한(초당 10회) 안에서 두 작업이 번갈아 토큰을 받음 (느린 작업은 10초 동안 50번 발화)
+        assertTrue(slowRunCount.get() >= 40, "slow job is starved. (runCount=" + slowRunCount.get() + ")");
+        assertTrue(fastRunCount.get() >= 40, "fast job is starved. (runCount=" + fastRunCount.get() + ")");
+        assertTrue(simulationReport.getExecutedCount() <= 10 * 10 + 1,
+                "rate limit is exceeded. (executedCount=" + simulationReport.getExecutedCount() + ")");
+
+        // 지연 중인 회차가 있는 동안 도래한 주기는 적재하지 않고 합침
+        assertTrue(fastJob.getMissedTickCount() > 9_000, "fast job ticks are not coalesced. (" + fastJob + ")");
+        assertTrue(fastJob.getPendingRunCount() <= 1, "deferred runs are piled up. (" + fastJob + ")");
+        assertTrue(slowJob.getPendingRunCount() <= 1, "deferred runs are piled up. (" + slowJob + ")");
+    }
+
+    /**
+     * 작업별 제한으로 지연된 회차는 한 번만 집계되고, 지연 중 주기는 missedTickCount 로 집계됨
+     */
+    @Test
+    void jobRateLimitKeepsOneDeferredRun() {
+        schedulerSimulation = new SchedulerSimulation("JOB_RATE_LIMIT_TEST", 1, 1024);
+
+        AtomicLong runCount = new AtomicLong();
+        Job job = new JobBuilder()
+                .setName("LIMITED")
+                .setInterval(10)
+                .setTimeUnit(TimeUnit.MILLISECONDS)
+                .setIsLasted(true)
+                .setRateLimit(2, 1)
+                .build();
+        assertTrue(schedulerSimulation.addJob(job, () -> {
+            runCount.incrementAndGet();
+            return 0L;
+        }));
+
+        schedulerSimulation.run(5, TimeUnit.SECONDS);
+
+        // 초당 2회, 5초 (첫 토큰은 바로 사용)
+        long runCountValue = runCount.get();
+        assertTrue(runCountValue >= 10 && runCountValue <= 11, "unexpected run count. (" + runCountValue + ")");
+        // 지연된 회차는 실행된 회차와 끝날 때 아직 지연 중인 한 회차뿐
+        assertTrue(job.getThrottledCount() <= runCountValue + 1, "deferred runs are piled up. (" + job + ")");
+        assertTrue(job.getPendingRunCount() <= 1, "deferred runs are piled up. (" + job + ")");
+        assertTrue(job.getMissedTickCount() >= 500 - runCountValue - 1, "the other ticks are not coalesced. (" + job + ")");
+
+        // 멈추면 지연 중이던 회차와 표식이 정리됨
+        schedulerSimulation.removeJob(job);
+        schedulerSimulation.run(1, TimeUnit.SECONDS);
+        assertFalse(job.isRunDeferred(), "deferred mark remains. (" + job + ")");
+        assertEquals(0, job.getPendingRunCount(), "deferred run remains. (" + job + ")");
+    }
+
+    private static Job newLastedJob(String name, int intervalMillis) {
+        return new JobBuilder()
+                .setName(name)
+                .setInterval(intervalMillis)
+                .setTimeUnit(TimeUnit.MILLISECONDS)
+                .setIsLasted(true)
+                .build();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.dovaj.job_worker_app_demo.scheduler.simulation;
+
+import com.dovaj.job_worker_app_demo.scheduler.definition.OVERRUN_POLICY_TYPE;
+import com.dovaj.job_worker_app_demo.scheduler.job.Job;
+import com.dovaj.job_worker_app_demo.scheduler.job.JobBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * packageName    : com.dovaj.job_worker_app_demo.scheduler.simulation
+ * fileName       : SchedulerSimulationTest
+ * author         : samuel
+ * date           : 26. 10. 16.
+ * description    : 가상 실행 시간 동안 작업이 실행 중으로 잡혀 overrun 정책이 운영과 같이 동작하는지 확인
+ * ===========================================================
+ * DATE              AUTHOR             NOTE
+ * -----------------------------------------------------------
+ * 26. 10. 16.        samuel       최초 생성
+ */
+class SchedulerSimulationTest {
+
+    private SchedulerSimulation schedulerSimulation;
+
+    @AfterEach
+    void tearDown() {
+        if (schedulerSimulation != null) {
+            schedulerSimulation.stop();
+        }
+    }
+
+    /**
+     * 주기 100ms, 실행 250ms 인 SKIP 작업은 실행 중 도래한 주기를 버리고 300ms 마다 실행되어야 함
+     */
+    @Test
+    void skipDropsTicksWhileRunning() {
+        schedulerSimulation = new SchedulerSimulation("SKIP_TEST", 1, 1024);
+        Job job = newLastedJob("SKIP", OVERRUN_POLICY_TYPE.SKIP);
+        assertTrue(schedulerSimulation.addJob(job, 250, TimeUnit.MILLISECONDS));
+
+        SimulationReport simulationReport = schedulerSimulation.run(3, TimeUnit.SECONDS);
+
+        // 0, 300, ..., 3000ms 에 실행 (진행 구간 끝 시각의 주기까지 포함)
+        assertEquals(11, simulationReport.getExecutedCount(), "unexpected executed count. (" + job + ")");
+        assertEquals(20, job.getMissedTickCount(), "running ticks are not skipped. (" + job + ")");
+        assertEquals(1, job.getRunningRunCount(), "run must be running until its virtual end time. (" + job + ")");
+
+        // 3000ms 에 시작한 회차의 가상 실행 시간이 끝나면 실행 중 수가 돌아와야 함
+        schedulerSimulation.run(250, TimeUnit.MILLISECONDS);
+        assertEquals(0, job.getRunningRunCount(), "run is not finished. (" + job + ")");
+    }
+
+    /**
+     * 같은 조건의 COALESCE 작업은 실행 중 도래한 주기를 한 회차로 합쳐 끝나자마자 다시 실행되어야 함
+     */
+    @Test
+    void coalesceRunsRightAfterRunning() {
+        schedulerSimulation = new SchedulerSimulation("COALESCE_TEST", 1, 1024);
+        Job job = newLastedJob("COALESCE", OVERRUN_POLICY_TYPE.COALESCE);
+        assertTrue(schedulerSimulation.addJob(job, 250, TimeUnit.MILLISECONDS));
+
+        SimulationReport simulationReport = schedulerSimulation.run(3, TimeUnit.SECONDS);
+
+        // 0, 250, 500, ..., 3000ms 에 실행
+        assertEquals(13, simulationReport.getExecutedCount(), "unexpected executed count. (" + job + ")");
+        assertTrue(job.getMissedTickCount() > 0, "ticks are not coalesced. (" + job + ")");
+    }
+
+    /**
+     * 실행이 다음 주기와 같은 시각에 끝나면 그 주기는 버리지 않아야 함
+     */
+    @Test
+    void skipKeepsTickAtRunEndTime() {
+        schedulerSimulation = new SchedulerSimulation("SKIP_EDGE_TEST", 1, 1024);
+        Job job = newLastedJob("SKIP_EDGE", OVERRUN_POLICY_TYPE.SKIP);
+        assertTrue(schedulerSimulation.addJob(job, 100, TimeUnit.MILLISECONDS));
+
+        SimulationReport simulationReport = schedulerSimulation.run(1, TimeUnit.SECONDS);
+
+        assertEquals(11, simulationReport.getExecutedCount(), "unexpected executed count. (" + job + ")");
+        assertEquals(0, job.getMissedTickCount(), "tick at run end time is skipped. (" + job + ")");
+    }
+
+    private static Job newLastedJob(String name, OVERRUN_POLICY_TYPE overrunPolicy) {
+        return new JobBuilder()
+                .setName(name)
+                .setInterval(100)
+                .setTimeUnit(TimeUnit.MILLISECONDS)
+                .setIsLasted(true)
+                .setOverrunPolicy(overrunPolicy)
+                .build();
+    }
+
+}